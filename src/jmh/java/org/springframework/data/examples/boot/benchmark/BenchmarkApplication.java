@@ -0,0 +1,53 @@
+package org.springframework.data.examples.boot.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.examples.boot.Application;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Boots the application with the development profile (embedded Neo4j, H2) for a benchmark
+ * trial, overriding the profile's YAML from the command line. The demo run is switched off so the context stays up, H2 runs in memory so every
+ * fork starts with an empty schema, and SQL and info logging are muted.
+ * <p>
+ * The embedded Neo4j store lives in a temporary directory that is removed when the fork exits,
+ * the benchmarks delete all people and must not do so in the developer's {@code target/var/graphDb}.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        Path neo4jDirectory = temporaryDirectory();
+        return new SpringApplicationBuilder(Application.class).run(
+            "--spring.profiles.active=development",
+            "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+            "--spring.data.neo4j.graphDbFileName=" + neo4jDirectory.resolve("graphDb"),
+            "--spring.data.neo4j.indexes.auto.dump.dir=" + neo4jDirectory + "/",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.neo4j=WARN",
+            "--logging.level.org.springframework.data.neo4j=WARN",
+            "--logging.level.org.springframework.data.examples=WARN",
+            "--app.demo.enabled=false",
+            "--app.projection.enabled=false",
+            "--app.metrics.prometheus.port=-1"
+        );
+    }
+
+    private static Path temporaryDirectory() {
+        try {
+            Path directory = Files.createTempDirectory("jmh-neo4j");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> FileSystemUtils.deleteRecursively(directory.toFile())));
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
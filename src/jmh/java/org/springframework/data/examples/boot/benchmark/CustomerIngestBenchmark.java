@@ -0,0 +1,70 @@
+package org.springframework.data.examples.boot.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.service.CustomerService;
+import org.springframework.data.examples.boot.support.BulkIngestReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput of {@link CustomerService#saveAll(java.util.Iterator)}: each invocation
+ * ingests {@value #ROWS} new customers in chunks of {@code app.bulk.chunk.size}, so the score is
+ * rows per second. The id generator decides how many sequence round trips each chunk costs and
+ * whether Hibernate can send the inserts as JDBC batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerIngestBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+
+    private CustomerService customerService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        customerService = context.getBean(CustomerService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteAll() {
+        customerService.deleteAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public BulkIngestReport saveAll() {
+        List<Customer> customers = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            customers.add(new Customer("First" + i, "Last" + (i % 100)));
+        }
+        return customerService.saveAll(customers.iterator());
+    }
+}
@@ -0,0 +1,86 @@
+package org.springframework.data.examples.boot.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.service.CustomerService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CustomerService} against H2 with {@code datasetSize} customers, ten per last name.
+ * Reads go through the Hibernate second-level and query caches as they do in the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+
+    private CustomerService customerService;
+
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        customerService = context.getBean(CustomerService.class);
+        List<Customer> customers = new ArrayList<>(datasetSize);
+        for (int i = 0; i < datasetSize; i++) {
+            customers.add(new Customer("First" + i, lastName(i)));
+        }
+        customerService.saveAll(customers.iterator());
+        ids = customers.stream().mapToLong(Customer::getId).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Customer save() {
+        return customerService.save(new Customer("Benchmark", lastName(randomIndex())));
+    }
+
+    @Benchmark
+    public Optional<Customer> findById() {
+        return customerService.findById(ids[randomIndex()]);
+    }
+
+    @Benchmark
+    public List<Customer> findByLastName() {
+        return customerService.findByLastName(lastName(randomIndex()));
+    }
+
+    private int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(datasetSize);
+    }
+
+    private String lastName(int i) {
+        return "Last" + (i % Math.max(1, datasetSize / 10));
+    }
+}
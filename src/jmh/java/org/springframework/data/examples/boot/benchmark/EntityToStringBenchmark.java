@@ -0,0 +1,79 @@
+package org.springframework.data.examples.boot.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+
+import javax.persistence.Persistence;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity {@code toString()} with {@code teamSize} teammates, no application context needed.
+ * The {@code legacy*} benchmarks are the stream based implementations the entities had before,
+ * kept here as the baseline; compare {@code gc.alloc.rate.norm} (bytes/op) from {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityToStringBenchmark {
+
+    @Param({"0", "5", "50"})
+    public int teamSize;
+
+    private Customer customer;
+
+    private Person person;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        customer = new Customer("Jack", "Bauer");
+        person = new Person("Jack Bauer");
+        for (int i = 0; i < teamSize; i++) {
+            customer.worksWith(new Customer("First-" + i, "Last-" + i));
+            person.worksWith(new Person("Person-" + i));
+        }
+    }
+
+    @Benchmark
+    public String customerToString() {
+        return customer.toString();
+    }
+
+    @Benchmark
+    public String personToString() {
+        return person.toString();
+    }
+
+    @Benchmark
+    public String legacyCustomerToString() {
+        if (!Persistence.getPersistenceUtil().isLoaded(customer, "teamMate")) {
+            return "Customer: " + customer.getName() + "'s teammates => (not loaded)";
+        }
+        return "Customer: " + customer.getName() + "'s teammates => "
+            + customer.getTeamMate().stream().map(Customer::getName).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public String legacyPersonToString() {
+        return "Person: " + person.getName() + "'s teammates => "
+            + Optional.ofNullable(person.getTeamMate()).orElse(Collections.emptySet()).stream()
+            .map(Person::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,116 @@
+package org.springframework.data.examples.boot.benchmark;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.neo4j.repository.PersonRepository;
+import org.springframework.data.examples.boot.neo4j.service.PersonService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PersonService} against embedded Neo4j with {@code datasetSize} people.
+ * <p>
+ * {@code findById} and {@code findByName} go through the service's Caffeine caches, so once warm
+ * they measure the cache; {@code findByIdUncached} (at the service's load depth) and
+ * {@code findByNameUncached} go straight to the repository and measure Neo4j. With {@code nameIndex=false} the {@code :Person(name)} index that
+ * the development profile creates at startup is dropped again, so comparing the two
+ * {@code findByNameUncached} runs shows what the index buys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int datasetSize;
+
+    @Param({"true", "false"})
+    public boolean nameIndex;
+
+    private ConfigurableApplicationContext context;
+
+    private PersonService personService;
+
+    private PersonRepository personRepository;
+
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        personService = context.getBean(PersonService.class);
+        personRepository = context.getBean(PersonRepository.class);
+        personService.deleteAll();
+        if (!nameIndex) {
+            context.getBean(SessionFactory.class).openSession()
+                .query("DROP INDEX ON :Person(name)", Collections.emptyMap());
+        }
+        List<Person> people = new ArrayList<>(datasetSize);
+        for (int i = 0; i < datasetSize; i++) {
+            people.add(new Person(name(i)));
+        }
+        personService.saveAll(people.iterator());
+        ids = people.stream().mapToLong(Person::getId).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        personService.deleteAll();
+        context.close();
+    }
+
+    @Benchmark
+    public Person save() {
+        return personService.save(new Person("Benchmark-" + System.nanoTime()));
+    }
+
+    @Benchmark
+    public Optional<Person> findById() {
+        return personService.findById(ids[randomIndex()]);
+    }
+
+    @Benchmark
+    public Optional<Person> findByIdUncached() {
+        return personRepository.findById(ids[randomIndex()], personService.getDefaultDepth());
+    }
+
+    @Benchmark
+    public Person findByName() {
+        return personService.findByName(name(randomIndex()));
+    }
+
+    @Benchmark
+    public Person findByNameUncached() {
+        return personRepository.findByName(name(randomIndex()));
+    }
+
+    private int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(datasetSize);
+    }
+
+    private static String name(int i) {
+        return "Person-" + i;
+    }
+}
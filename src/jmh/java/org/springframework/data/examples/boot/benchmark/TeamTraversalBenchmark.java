@@ -0,0 +1,117 @@
+package org.springframework.data.examples.boot.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.domain.CustomerTeamMember;
+import org.springframework.data.examples.boot.jpa.service.CustomerFetchPlan;
+import org.springframework.data.examples.boot.jpa.service.CustomerService;
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.neo4j.domain.TeamReach;
+import org.springframework.data.examples.boot.neo4j.service.PersonService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same team, a tree with four teammates per member, stored in both databases and walked
+ * {@code depth} levels down from its root: as a single Cypher traversal, as a single recursive
+ * SQL query and on the JPA side by loading every level with the teammate join.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamTraversalBenchmark {
+
+    private static final int TEAM_SIZE = 4;
+
+    @Param({"1000", "10000"})
+    public int datasetSize;
+
+    @Param({"2", "4"})
+    public int depth;
+
+    private ConfigurableApplicationContext context;
+
+    private CustomerService customerService;
+
+    private PersonService personService;
+
+    private Long rootCustomerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        customerService = context.getBean(CustomerService.class);
+        personService = context.getBean(PersonService.class);
+        personService.deleteAll();
+        List<Customer> customers = new ArrayList<>(datasetSize);
+        List<Person> people = new ArrayList<>(datasetSize);
+        for (int i = 0; i < datasetSize; i++) {
+            Customer customer = new Customer("Member", String.valueOf(i));
+            Person person = new Person(name(i));
+            if (i > 0) {
+                customers.get((i - 1) / TEAM_SIZE).worksWith(customer);
+                person.worksWith(people.get((i - 1) / TEAM_SIZE));
+            }
+            customers.add(customer);
+            people.add(person);
+        }
+        customerService.saveAll(customers.iterator());
+        personService.saveAll(people.iterator());
+        rootCustomerId = customers.get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        personService.deleteAll();
+        context.close();
+    }
+
+    @Benchmark
+    public List<TeamReach> neo4jTeamWithinHops() {
+        return personService.findTeamWithinHops(name(0), depth);
+    }
+
+    @Benchmark
+    public List<CustomerTeamMember> jpaTeamRecursiveQuery() {
+        return customerService.findTeamTree(rootCustomerId, depth);
+    }
+
+    @Benchmark
+    public List<Long> jpaTeamLevelByLevel() {
+        List<Long> reached = new ArrayList<>();
+        List<Long> level = Collections.singletonList(rootCustomerId);
+        for (int hop = 0; hop < depth && !level.isEmpty(); hop++) {
+            List<Long> next = new ArrayList<>();
+            for (Long id : level) {
+                customerService.findById(id, CustomerFetchPlan.WITH_TEAM)
+                    .ifPresent(customer -> customer.getTeamMate().forEach(mate -> next.add(mate.getId())));
+            }
+            reached.addAll(next);
+            level = next;
+        }
+        return reached;
+    }
+
+    private static String name(int i) {
+        return "Member " + i;
+    }
+}
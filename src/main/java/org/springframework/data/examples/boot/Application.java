@@ -9,7 +9,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.data.neo4j.Neo4jDataAutoConfiguration;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.process.LoadGeneratorService;
 import org.springframework.data.examples.boot.process.ProcessService;
+import org.springframework.data.examples.boot.support.StartupProfiler;
 
 
 /**
@@ -19,7 +22,9 @@ import org.springframework.data.examples.boot.process.ProcessService;
 public class Application implements ApplicationListener<ApplicationReadyEvent> {
 
 	public static void main(String[] args) {
-		SpringApplication.run(Application.class,args);
+		SpringApplication application = new SpringApplication(Application.class);
+		application.addInitializers(new StartupProfiler());
+		application.run(args);
 	}
 
     private static final Log LOGGER = LogFactory.getLog(Application.class);
@@ -27,6 +32,12 @@ public class Application implements ApplicationListener<ApplicationReadyEvent> {
 	@Autowired
     private ProcessService processService;
 
+    @Autowired
+    private LoadGeneratorService loadGeneratorService;
+
+    @Autowired
+    private MyApplicationProperties myApplicationProperties;
+
     @Override
     public void onApplicationEvent(ApplicationReadyEvent event) {
         LOGGER.info(" ");
@@ -34,6 +45,15 @@ public class Application implements ApplicationListener<ApplicationReadyEvent> {
         LOGGER.info(" ===== Application Ready   ====== ");
         LOGGER.info(" ================================ ");
         LOGGER.info(" ");
+        if (myApplicationProperties.getLoadEnabled()) {
+            loadGeneratorService.run();
+            SpringApplication.exit(event.getApplicationContext());
+            return;
+        }
+        if (!myApplicationProperties.getDemoEnabled()) {
+            LOGGER.info("app.demo.enabled = false, keeping the context running");
+            return;
+        }
         processService.runDatabaseExample();;
         SpringApplication.exit(event.getApplicationContext());
     }
@@ -0,0 +1,64 @@
+package org.springframework.data.examples.boot.config;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.support.BootstrapMode;
+import org.springframework.data.examples.boot.support.BootstrapReport;
+import org.springframework.data.examples.boot.support.EntityManagerFactoryBootstrapPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+
+/**
+ * Startup of the persistence stacks, shared by all profiles. With
+ * {@code app.bootstrap.mode = parallel} the Hibernate EntityManagerFactory and the embedded
+ * Neo4j store are built on the {@code bootstrapExecutor} next to the main thread; the
+ * {@link BootstrapReport} logs how long each phase took once the application is ready.
+ */
+@Configuration
+public class ConfigurationBootstrap {
+
+    @Autowired
+    private MyApplicationProperties myApplicationProperties;
+
+    @Bean
+    public BootstrapReport bootstrapReport() {
+        return new BootstrapReport(BootstrapMode.fromProperty(myApplicationProperties.getBootstrapMode()));
+    }
+
+    /**
+     * Two threads, one per store, that end once startup is over; in sequential mode the
+     * caller's own thread.
+     */
+    @Bean("bootstrapExecutor")
+    public TaskExecutor bootstrapExecutor() {
+        if (BootstrapMode.fromProperty(myApplicationProperties.getBootstrapMode()) == BootstrapMode.SEQUENTIAL) {
+            return new SyncTaskExecutor();
+        }
+        LOGGER.info("Initializing bootstrapExecutor");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setKeepAliveSeconds(1);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("bootstrap-");
+        return executor;
+    }
+
+    @Bean
+    public static EntityManagerFactoryBootstrapPostProcessor entityManagerFactoryBootstrapPostProcessor(
+        ObjectProvider<BootstrapReport> bootstrapReport,
+        @Qualifier("bootstrapExecutor") ObjectProvider<TaskExecutor> bootstrapExecutor
+    ) {
+        return new EntityManagerFactoryBootstrapPostProcessor(bootstrapReport, bootstrapExecutor);
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(ConfigurationBootstrap.class);
+}
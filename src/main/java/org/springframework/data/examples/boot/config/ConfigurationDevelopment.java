@@ -2,10 +2,7 @@ package org.springframework.data.examples.boot.config;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.neo4j.graphdb.GraphDatabaseService;
-import org.neo4j.graphdb.factory.GraphDatabaseFactory;
 import org.neo4j.ogm.driver.Driver;
-import org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver;
 import org.neo4j.ogm.session.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -14,8 +11,13 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.examples.boot.config.helper.ConfigurationLogger;
 import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.neo4j.schema.Neo4jIndexManager;
+import org.springframework.data.examples.boot.neo4j.schema.Neo4jIndexMode;
+import org.springframework.data.examples.boot.support.BootstrapReport;
+import org.springframework.data.examples.boot.support.EmbeddedGraphDatabase;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
 import org.springframework.data.neo4j.transaction.Neo4jTransactionManager;
@@ -45,28 +47,38 @@ public class ConfigurationDevelopment {
 
     private final String packages[] = { "org.springframework.data.examples.boot.neo4j.domain" };
 
-	private final String graphDbFileName  = "target/var/graphDb";
-
 	@Autowired
 	private ConfigurationLogger configurationLogger;
 
     @Autowired
 	private MyApplicationProperties myApplicationProperties;
 
-    @Bean
-    public Driver neo4jDriver() {
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EmbeddedGraphDatabase embeddedGraphDatabase(
+        BootstrapReport bootstrapReport,
+        @Qualifier("bootstrapExecutor") TaskExecutor bootstrapExecutor
+    ) {
         myApplicationProperties.log();
-        LOGGER.debug("   Neo4J Driver Configuration = Embedded : " + this.graphDbFileName + " ");
+        LOGGER.debug("   Neo4J Driver Configuration = Embedded : " + myApplicationProperties.getNeo4jEmbeddedDirectory() + " ");
         LOGGER.debug("-------------------------------------------------------------");
-        File db = new File( graphDbFileName );
-        GraphDatabaseService graphDb = new GraphDatabaseFactory().newEmbeddedDatabase( db );
-        Driver driver = new EmbeddedDriver(graphDb);
-        return driver;
+        return new EmbeddedGraphDatabase(
+            new File(myApplicationProperties.getNeo4jEmbeddedDirectory()),
+            myApplicationProperties.getNeo4jEmbeddedPageCacheSize(),
+            myApplicationProperties.getNeo4jEmbeddedTxLogRotationSize(),
+            myApplicationProperties.getNeo4jEmbeddedTxLogRetention(),
+            myApplicationProperties.getNeo4jEmbeddedWarmupEnabled(),
+            bootstrapReport.timed("neo4j embedded store", bootstrapExecutor)
+        );
+    }
+
+    @Bean
+    public Driver neo4jDriver(EmbeddedGraphDatabase embeddedGraphDatabase) {
+        return embeddedGraphDatabase.driver();
     }
 
     @Required
     @Bean
-	public SessionFactory sessionFactory(Driver neo4jDriver) {
+	public SessionFactory sessionFactory(Driver neo4jDriver, BootstrapReport bootstrapReport) {
         if (neo4jDriver == null) {
             LOGGER.error("");
             LOGGER.error("-------------------------------------------------------------");
@@ -74,9 +86,19 @@ public class ConfigurationDevelopment {
             LOGGER.error("-------------------------------------------------------------");
             LOGGER.error("");
         }
-        return new SessionFactory(neo4jDriver,packages);
+        return bootstrapReport.time("neo4j sessionFactory", () -> new SessionFactory(neo4jDriver,packages));
 	}
 
+    @Bean(initMethod = "run")
+    public Neo4jIndexManager neo4jIndexManager(SessionFactory sessionFactory) {
+        return new Neo4jIndexManager(
+            sessionFactory,
+            Neo4jIndexMode.fromProperty(myApplicationProperties.getIndexesAutoMode()),
+            myApplicationProperties.getGeneratedIndexesOutputDir(),
+            myApplicationProperties.getGeneratedIndexesOutputFilename()
+        );
+    }
+
     @Bean("jpaTransactionManager")
     public JpaTransactionManager jpaTransactionManager(
         EntityManagerFactory emf
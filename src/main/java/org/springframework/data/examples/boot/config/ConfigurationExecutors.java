@@ -0,0 +1,81 @@
+package org.springframework.data.examples.boot.config;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+
+/**
+ * Executors shared by all profiles, one per persistence store so that a slow store
+ * cannot starve the writes of the other one.
+ */
+@Configuration
+@EnableScheduling
+public class ConfigurationExecutors {
+
+    @Autowired
+    private MyApplicationProperties myApplicationProperties;
+
+    @Bean("jpaWriteExecutor")
+    public ThreadPoolTaskExecutor jpaWriteExecutor() {
+        LOGGER.info("Initializing jpaWriteExecutor");
+        return storeExecutor("jpa-write-");
+    }
+
+    @Bean("neo4jWriteExecutor")
+    public ThreadPoolTaskExecutor neo4jWriteExecutor() {
+        LOGGER.info("Initializing neo4jWriteExecutor");
+        return storeExecutor("neo4j-write-");
+    }
+
+    @Bean("jpaReadExecutor")
+    public ThreadPoolTaskExecutor jpaReadExecutor() {
+        LOGGER.info("Initializing jpaReadExecutor");
+        return readExecutor("jpa-read-");
+    }
+
+    @Bean("neo4jReadExecutor")
+    public ThreadPoolTaskExecutor neo4jReadExecutor() {
+        LOGGER.info("Initializing neo4jReadExecutor");
+        return readExecutor("neo4j-read-");
+    }
+
+    /**
+     * Bounded pool and queue for the reactive reads; when both are full the call fails
+     * with a rejection instead of piling up blocked threads.
+     */
+    private ThreadPoolTaskExecutor readExecutor(String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(myApplicationProperties.getReactivePoolSize());
+        executor.setMaxPoolSize(myApplicationProperties.getReactivePoolSize());
+        executor.setQueueCapacity(myApplicationProperties.getReactiveQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Bounded pool and queue for the dual writes; when both are full the caller runs the write
+     * itself, which slows it down to the pace of the store instead of queueing without limit.
+     * Rejecting instead could fail one side of a dual write after the other was submitted.
+     */
+    private ThreadPoolTaskExecutor storeExecutor(String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(myApplicationProperties.getDualWritePoolSize());
+        executor.setMaxPoolSize(myApplicationProperties.getDualWritePoolSize());
+        executor.setQueueCapacity(myApplicationProperties.getDualWriteQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(ConfigurationExecutors.class);
+}
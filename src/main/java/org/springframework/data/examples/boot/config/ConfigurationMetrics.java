@@ -0,0 +1,75 @@
+package org.springframework.data.examples.boot.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jpa.HibernateMetrics;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.support.HibernateCacheRegionMetrics;
+import org.springframework.data.examples.boot.support.PrometheusScrapeServer;
+import org.springframework.data.examples.boot.support.ServiceMetricsAspect;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Collections;
+
+
+/**
+ * Meters shared by all profiles. The binders are bound right here because the registry
+ * is already built when the EntityManagerFactory becomes available.
+ */
+@Configuration
+public class ConfigurationMetrics {
+
+    @Autowired
+    private MyApplicationProperties myApplicationProperties;
+
+    @Bean
+    public HibernateMetrics hibernateMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        LOGGER.info("Initializing HibernateMetrics for EntityManagerFactory");
+        HibernateMetrics hibernateMetrics = new HibernateMetrics(entityManagerFactory, "default", Collections.emptyList());
+        hibernateMetrics.bindTo(meterRegistry);
+        return hibernateMetrics;
+    }
+
+    @Bean
+    public HibernateCacheRegionMetrics hibernateCacheRegionMetrics(
+        EntityManagerFactory entityManagerFactory,
+        MeterRegistry meterRegistry
+    ) {
+        LOGGER.info("Initializing HibernateCacheRegionMetrics for EntityManagerFactory");
+        HibernateCacheRegionMetrics hibernateCacheRegionMetrics = new HibernateCacheRegionMetrics(
+            entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+            Arrays.asList(
+                Customer.class.getName(),
+                Customer.class.getName() + ".teamMate",
+                Customer.QUERY_CACHE_REGION_BY_LAST_NAME
+            )
+        );
+        hibernateCacheRegionMetrics.bindTo(meterRegistry);
+        return hibernateCacheRegionMetrics;
+    }
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        LOGGER.info("Initializing ServiceMetricsAspect");
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PrometheusScrapeServer prometheusScrapeServer(PrometheusMeterRegistry prometheusMeterRegistry) {
+        return new PrometheusScrapeServer(
+            prometheusMeterRegistry,
+            myApplicationProperties.getMetricsPrometheusHost(),
+            myApplicationProperties.getMetricsPrometheusPort()
+        );
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(ConfigurationMetrics.class);
+}
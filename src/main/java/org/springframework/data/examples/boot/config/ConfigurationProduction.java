@@ -1,20 +1,37 @@
 package org.springframework.data.examples.boot.config;
 
 import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.neo4j.driver.v1.AuthTokens;
+import org.neo4j.driver.v1.Config;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
 import org.neo4j.ogm.session.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Required;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.examples.boot.config.helper.ConfigurationLogger;
 import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.neo4j.schema.Neo4jIndexManager;
+import org.springframework.data.examples.boot.neo4j.schema.Neo4jIndexMode;
+import org.springframework.data.examples.boot.support.BoltDriverMetrics;
+import org.springframework.data.examples.boot.support.BootstrapReport;
+import org.springframework.data.examples.boot.support.ReplicaBalancing;
+import org.springframework.data.examples.boot.support.ReplicaRoutingDataSource;
+import org.springframework.data.examples.boot.support.ReplicaRoutingJpaTransactionManager;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
 import org.springframework.data.neo4j.transaction.Neo4jTransactionManager;
@@ -22,6 +39,11 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -87,18 +109,146 @@ public class ConfigurationProduction {
         return configuration;
     }
 
+    @Bean
+    public BoltDriverMetrics boltDriverMetrics(MeterRegistry meterRegistry) {
+        BoltDriverMetrics boltDriverMetrics = new BoltDriverMetrics(myApplicationProperties.getNeo4jConnectionPoolSize());
+        boltDriverMetrics.bindTo(meterRegistry);
+        return boltDriverMetrics;
+    }
+
+    /**
+     * Bolt driver with its connection pool sized and timed from {@code spring.data.neo4j.connection.*},
+     * all durations in milliseconds. OGM 3.1 only passes the pool size and liveness check on to the
+     * driver it builds itself, so the driver is built here and handed to the {@link SessionFactory};
+     * {@code BoltDriver.configure} would close it again, so the OGM configuration is only logged and
+     * carries no pool settings. The driver {@link Config} is the one that counts and is logged here.
+     */
+    @Bean(destroyMethod = "close")
+    public Driver neo4jBoltDriver(BoltDriverMetrics boltDriverMetrics) {
+        LOGGER.info("Initializing Neo4j bolt driver for " + myApplicationProperties.getNeo4jUri());
+        Config.ConfigBuilder builder = Config.build()
+            .withMaxConnectionPoolSize(myApplicationProperties.getNeo4jConnectionPoolSize())
+            .withConnectionAcquisitionTimeout(
+                myApplicationProperties.getNeo4jConnectionAcquisitionTimeout(), TimeUnit.MILLISECONDS
+            )
+            .withMaxConnectionLifetime(myApplicationProperties.getNeo4jConnectionMaxLifetime(), TimeUnit.MILLISECONDS)
+            .withConnectionLivenessCheckTimeout(
+                myApplicationProperties.getNeo4jConnectionLivenessCheckTimeout(), TimeUnit.MILLISECONDS
+            )
+            .withConnectionTimeout(myApplicationProperties.getNeo4jConnectionTimeout(), TimeUnit.MILLISECONDS);
+        // withEncryptionLevel is deprecated, the level only tells whether to encrypt
+        if (Config.EncryptionLevel.valueOf(this.encryptionLevel) == Config.EncryptionLevel.NONE) {
+            builder.withoutEncryption();
+        } else {
+            builder.withEncryption();
+        }
+        Config config = builder.toConfig();
+        LOGGER.debug("-------------------------------------------------------------");
+        LOGGER.debug("   Neo4J bolt driver Config                                  ");
+        LOGGER.debug("-------------------------------------------------------------");
+        LOGGER.debug("   maxConnectionPoolSize = " + config.maxConnectionPoolSize() + " ");
+        LOGGER.debug("   connectionAcquisitionTimeoutMillis = " + config.connectionAcquisitionTimeoutMillis() + " ");
+        LOGGER.debug("   maxConnectionLifetimeMillis = " + config.maxConnectionLifetimeMillis() + " ");
+        LOGGER.debug("   idleTimeBeforeConnectionTest = " + config.idleTimeBeforeConnectionTest() + " ");
+        LOGGER.debug("   connectionTimeoutMillis = " + config.connectionTimeoutMillis() + " ");
+        LOGGER.debug("   encrypted = " + config.encrypted() + " ");
+        LOGGER.debug("-------------------------------------------------------------");
+        Driver driver = GraphDatabase.driver(
+            myApplicationProperties.getNeo4jUri(), AuthTokens.basic(this.username, this.password), config
+        );
+        return boltDriverMetrics.instrument(driver);
+    }
+
     @Required
     @Bean
-	public SessionFactory sessionFactory(org.neo4j.ogm.config.Configuration configuration ) {
-        return new SessionFactory(configuration,packages);
+	public SessionFactory sessionFactory(
+        Driver neo4jBoltDriver,
+        BootstrapReport bootstrapReport
+    ) {
+        return bootstrapReport.time("neo4j sessionFactory", () -> new SessionFactory(new BoltDriver(neo4jBoltDriver),packages));
 	}
 
+    @Bean(initMethod = "run")
+    public Neo4jIndexManager neo4jIndexManager(SessionFactory sessionFactory) {
+        return new Neo4jIndexManager(
+            sessionFactory,
+            Neo4jIndexMode.fromProperty(myApplicationProperties.getIndexesAutoMode()),
+            myApplicationProperties.getGeneratedIndexesOutputDir(),
+            myApplicationProperties.getGeneratedIndexesOutputFilename()
+        );
+    }
+
+    /**
+     * Hikari pool for PostgreSQL sized from {@code app.datasource.pool.*}. PgJDBC switches a
+     * statement to a server-side prepared statement after {@code prepareThreshold} executions
+     * and keeps up to {@code preparedStatementCacheQueries} of them per connection. The pool
+     * reports to Micrometer as {@code hikaricp.connections.*}, including the acquire timer.
+     * <p>
+     * With {@code app.datasource.replica.urls} set, each replica gets a pool of the same size
+     * and read-only transactions are routed to them, see {@link ReplicaRoutingDataSource}.
+     */
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        LOGGER.info("Initializing HikariDataSource for " + dataSourceProperties.getUrl());
+        HikariDataSource primary = hikariDataSource(dataSourceProperties, dataSourceProperties.getUrl(), "jpa", meterRegistry);
+        String[] replicaUrls = StringUtils.tokenizeToStringArray(myApplicationProperties.getDatasourceReplicaUrls(), ",");
+        if (replicaUrls.length == 0) {
+            return primary;
+        }
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            LOGGER.info("Initializing HikariDataSource for replica " + replicaUrls[i]);
+            replicas.add(hikariDataSource(dataSourceProperties, replicaUrls[i], "jpa-replica-" + (i + 1), meterRegistry));
+        }
+        return new ReplicaRoutingDataSource(
+            primary,
+            replicas,
+            ReplicaBalancing.fromProperty(myApplicationProperties.getDatasourceReplicaBalancing()),
+            myApplicationProperties.getDatasourceReplicaMaxLag(),
+            myApplicationProperties.getDatasourceReplicaLagQuery(),
+            myApplicationProperties.getDatasourceReplicaLagCheckInterval()
+        );
+    }
+
+    private HikariDataSource hikariDataSource(
+        DataSourceProperties dataSourceProperties,
+        String url,
+        String poolName,
+        MeterRegistry meterRegistry
+    ) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMinimumIdle(myApplicationProperties.getDatasourcePoolMinimumIdle());
+        dataSource.setMaximumPoolSize(myApplicationProperties.getDatasourcePoolMaximumSize());
+        dataSource.setConnectionTimeout(myApplicationProperties.getDatasourcePoolConnectionTimeout());
+        dataSource.setLeakDetectionThreshold(myApplicationProperties.getDatasourcePoolLeakDetectionThreshold());
+        dataSource.addDataSourceProperty(
+            "prepareThreshold", myApplicationProperties.getDatasourcePgjdbcPrepareThreshold()
+        );
+        dataSource.addDataSourceProperty(
+            "preparedStatementCacheQueries", myApplicationProperties.getDatasourcePgjdbcPreparedStatementCacheQueries()
+        );
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    /**
+     * With replicas, read-only transactions keep what they load out of the second-level cache,
+     * see {@link ReplicaRoutingJpaTransactionManager}.
+     */
     @Bean("jpaTransactionManager")
     public JpaTransactionManager jpaTransactionManager(
-        EntityManagerFactory emf
+        EntityManagerFactory emf,
+        DataSource dataSource
     ){
         LOGGER.info("Initializing JpaTransactionManager from EntityManagerFactory");
-        JpaTransactionManager jpaTransactionManager = new JpaTransactionManager(emf);
+        JpaTransactionManager jpaTransactionManager = dataSource instanceof ReplicaRoutingDataSource
+            ? new ReplicaRoutingJpaTransactionManager()
+            : new JpaTransactionManager();
+        jpaTransactionManager.setEntityManagerFactory(emf);
         return jpaTransactionManager;
     }
 
@@ -50,16 +50,6 @@ public class ConfigurationLoggerImpl implements ConfigurationLogger {
             } catch (NullPointerException npe) {
                 LOGGER.error("spring.data.neo4j.trust.certificate.file = " + npe.getMessage());
             }
-            try {
-                LOGGER.debug("spring.data.neo4j.connection.pool.size = " + configuration.getConnectionPoolSize());
-            } catch (NullPointerException npe) {
-                LOGGER.error("spring.data.neo4j.connection.pool.size = " + npe.getMessage());
-            }
-            try {
-                LOGGER.debug("spring.data.neo4j.connection.liveness.check.timeout = " + configuration.getConnectionLivenessCheckTimeout());
-            } catch (NullPointerException npe) {
-                LOGGER.error("spring.data.neo4j.connection.liveness.check.timeout = " + npe.getMessage());
-            }
             try {
                 if (configuration.getAutoIndex() != null) {
                     LOGGER.debug("spring.data.neo4j.indexes.auto.dump.dir = " + configuration.getAutoIndex().getName());
@@ -106,11 +96,6 @@ public class ConfigurationLoggerImpl implements ConfigurationLogger {
             } catch (NullPointerException npe) {
                 LOGGER.error("spring.data.neo4j.neo4j.ha.properties.file = " + npe.getMessage());
             }
-            try {
-                LOGGER.debug("spring.data.neo4j.connection.pool.size = " + configuration.getConnectionPoolSize());
-            } catch (NullPointerException npe) {
-                LOGGER.error("spring.data.neo4j.connection.pool.size = " + npe.getMessage());
-            }
             try {
                 LOGGER.debug("spring.data.neo4j.verify.connection = " + configuration.getVerifyConnection());
             } catch (NullPointerException npe) {
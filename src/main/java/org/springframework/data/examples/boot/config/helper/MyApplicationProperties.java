@@ -36,6 +36,82 @@ public class MyApplicationProperties {
     @Value("${spring.data.neo4j.indexes.auto.dump.filename}")
     private String generatedIndexesOutputFilename="neo4j_indexes.cypher";
 
+    @NonNull
+    @Value("${spring.data.neo4j.indexes.auto.mode:none}")
+    private String indexesAutoMode = "none";
+
+    @NonNull
+    @Value("${spring.data.neo4j.graphDbFileName:target/var/graphDb}")
+    private String neo4jEmbeddedDirectory = "target/var/graphDb";
+
+    @NonNull
+    @Value("${spring.data.neo4j.embedded.pagecache.size:256m}")
+    private String neo4jEmbeddedPageCacheSize = "256m";
+
+    @NonNull
+    @Value("${spring.data.neo4j.embedded.tx.log.rotation.size:25M}")
+    private String neo4jEmbeddedTxLogRotationSize = "25M";
+
+    @NonNull
+    @Value("${spring.data.neo4j.embedded.tx.log.retention:100M size}")
+    private String neo4jEmbeddedTxLogRetention = "100M size";
+
+    @NonNull
+    @Value("${spring.data.neo4j.embedded.warmup.enabled:false}")
+    private Boolean neo4jEmbeddedWarmupEnabled = false;
+
+    @NonNull
+    @Value("${spring.data.neo4j.connection.pool.size:50}")
+    private Integer neo4jConnectionPoolSize = 50;
+
+    @NonNull
+    @Value("${spring.data.neo4j.connection.acquisition.timeout:60000}")
+    private Long neo4jConnectionAcquisitionTimeout = 60000L;
+
+    @NonNull
+    @Value("${spring.data.neo4j.connection.max.lifetime:3600000}")
+    private Long neo4jConnectionMaxLifetime = 3600000L;
+
+    @NonNull
+    @Value("${spring.data.neo4j.connection.liveness.check.timeout:-1}")
+    private Long neo4jConnectionLivenessCheckTimeout = -1L;
+
+    @NonNull
+    @Value("${spring.data.neo4j.connection.timeout:5000}")
+    private Long neo4jConnectionTimeout = 5000L;
+
+    @NonNull
+    @Value("${app.metrics.prometheus.host:127.0.0.1}")
+    private String metricsPrometheusHost = "127.0.0.1";
+
+    @NonNull
+    @Value("${app.metrics.prometheus.port:-1}")
+    private Integer metricsPrometheusPort = -1;
+
+    @NonNull
+    @Value("${app.bootstrap.mode:sequential}")
+    private String bootstrapMode = "sequential";
+
+    @NonNull
+    @Value("${app.startup.profile.top:20}")
+    private Integer startupProfileTop = 20;
+
+    @NonNull
+    @Value("${app.startup.profile.file:}")
+    private String startupProfileFile = "";
+
+    @NonNull
+    @Value("${app.reactive.pool.size:8}")
+    private Integer reactivePoolSize = 8;
+
+    @NonNull
+    @Value("${app.reactive.queue.capacity:1000}")
+    private Integer reactiveQueueCapacity = 1000;
+
+    @NonNull
+    @Value("${app.reactive.page.size:500}")
+    private Integer reactivePageSize = 500;
+
     @Nullable
     @Value("${spring.datasource.url}")
     private String datasourceUrl;
@@ -52,6 +128,129 @@ public class MyApplicationProperties {
     @Value("${spring.datasource.password}")
     private String datasourcePassword;
 
+    @NonNull
+    @Value("${app.datasource.pool.minimum.idle:5}")
+    private Integer datasourcePoolMinimumIdle = 5;
+
+    @NonNull
+    @Value("${app.datasource.pool.maximum.size:20}")
+    private Integer datasourcePoolMaximumSize = 20;
+
+    @NonNull
+    @Value("${app.datasource.pool.connection.timeout:30000}")
+    private Long datasourcePoolConnectionTimeout = 30000L;
+
+    @NonNull
+    @Value("${app.datasource.pool.leak.detection.threshold:60000}")
+    private Long datasourcePoolLeakDetectionThreshold = 60000L;
+
+    @NonNull
+    @Value("${app.datasource.pgjdbc.prepare.threshold:3}")
+    private Integer datasourcePgjdbcPrepareThreshold = 3;
+
+    @NonNull
+    @Value("${app.datasource.pgjdbc.prepared.statement.cache.queries:256}")
+    private Integer datasourcePgjdbcPreparedStatementCacheQueries = 256;
+
+    @NonNull
+    @Value("${app.datasource.replica.urls:}")
+    private String datasourceReplicaUrls = "";
+
+    @NonNull
+    @Value("${app.datasource.replica.balancing:round-robin}")
+    private String datasourceReplicaBalancing = "round-robin";
+
+    @NonNull
+    @Value("${app.datasource.replica.max.lag:5000}")
+    private Long datasourceReplicaMaxLag = 5000L;
+
+    @NonNull
+    @Value("${app.datasource.replica.lag.query:}")
+    private String datasourceReplicaLagQuery = "";
+
+    @NonNull
+    @Value("${app.datasource.replica.lag.check.interval:1000}")
+    private Long datasourceReplicaLagCheckInterval = 1000L;
+
+    @NonNull
+    @Value("${app.demo.enabled:true}")
+    private Boolean demoEnabled = true;
+
+    @NonNull
+    @Value("${app.load.enabled:false}")
+    private Boolean loadEnabled = false;
+
+    @NonNull
+    @Value("${app.load.rate:200}")
+    private Integer loadRate = 200;
+
+    @NonNull
+    @Value("${app.load.concurrency:8}")
+    private Integer loadConcurrency = 8;
+
+    @NonNull
+    @Value("${app.load.duration:60}")
+    private Integer loadDuration = 60;
+
+    @NonNull
+    @Value("${app.load.warmup:10}")
+    private Integer loadWarmup = 10;
+
+    @NonNull
+    @Value("${app.load.dataset.size:1000}")
+    private Integer loadDatasetSize = 1000;
+
+    @NonNull
+    @Value("${app.load.mix:customer-find-by-id:30,customer-find-by-last-name:10,customer-save:5,person-find-by-name:30,person-find-by-id:20,person-save:5}")
+    private String loadMix = "customer-find-by-id:30,customer-find-by-last-name:10,customer-save:5,person-find-by-name:30,person-find-by-id:20,person-save:5";
+
+    @NonNull
+    @Value("${app.load.report.interval:10}")
+    private Integer loadReportInterval = 10;
+
+    @NonNull
+    @Value("${app.load.histogram.log:}")
+    private String loadHistogramLog = "";
+
+    @NonNull
+    @Value("${app.bulk.chunk.size:500}")
+    private Integer bulkChunkSize = 500;
+
+    @NonNull
+    @Value("${app.dualwrite.pool.size:4}")
+    private Integer dualWritePoolSize = 4;
+
+    @NonNull
+    @Value("${app.dualwrite.queue.capacity:100}")
+    private Integer dualWriteQueueCapacity = 100;
+
+    @NonNull
+    @Value("${app.projection.enabled:false}")
+    private Boolean projectionEnabled = false;
+
+    @NonNull
+    @Value("${app.projection.batch.size:500}")
+    private Integer projectionBatchSize = 500;
+
+    @NonNull
+    @Value("${app.projection.poll.interval:1000}")
+    private Long projectionPollInterval = 1000L;
+
+    @NonNull
+    @Value("${app.stream.fetch.size:1000}")
+    private Integer streamFetchSize = 1000;
+
+    @NonNull
+    @Value("${app.person.load.depth:1}")
+    private Integer personLoadDepth = 1;
+
+    @NonNull
+    @Value("${app.person.cache.maximum.size:10000}")
+    private Long personCacheMaximumSize = 10000L;
+
+    @NonNull
+    @Value("${app.person.cache.ttl:300}")
+    private Long personCacheTtlSeconds = 300L;
 
 
     public String getNeo4jUri() {
@@ -70,6 +269,150 @@ public class MyApplicationProperties {
         this.springProfilesActive = springProfilesActive;
     }
 
+    public String getNeo4jEmbeddedDirectory() {
+        return neo4jEmbeddedDirectory;
+    }
+
+    public void setNeo4jEmbeddedDirectory(String neo4jEmbeddedDirectory) {
+        this.neo4jEmbeddedDirectory = neo4jEmbeddedDirectory;
+    }
+
+    public String getNeo4jEmbeddedPageCacheSize() {
+        return neo4jEmbeddedPageCacheSize;
+    }
+
+    public void setNeo4jEmbeddedPageCacheSize(String neo4jEmbeddedPageCacheSize) {
+        this.neo4jEmbeddedPageCacheSize = neo4jEmbeddedPageCacheSize;
+    }
+
+    public String getNeo4jEmbeddedTxLogRotationSize() {
+        return neo4jEmbeddedTxLogRotationSize;
+    }
+
+    public void setNeo4jEmbeddedTxLogRotationSize(String neo4jEmbeddedTxLogRotationSize) {
+        this.neo4jEmbeddedTxLogRotationSize = neo4jEmbeddedTxLogRotationSize;
+    }
+
+    public String getNeo4jEmbeddedTxLogRetention() {
+        return neo4jEmbeddedTxLogRetention;
+    }
+
+    public void setNeo4jEmbeddedTxLogRetention(String neo4jEmbeddedTxLogRetention) {
+        this.neo4jEmbeddedTxLogRetention = neo4jEmbeddedTxLogRetention;
+    }
+
+    public Boolean getNeo4jEmbeddedWarmupEnabled() {
+        return neo4jEmbeddedWarmupEnabled;
+    }
+
+    public void setNeo4jEmbeddedWarmupEnabled(Boolean neo4jEmbeddedWarmupEnabled) {
+        this.neo4jEmbeddedWarmupEnabled = neo4jEmbeddedWarmupEnabled;
+    }
+
+    public Integer getNeo4jConnectionPoolSize() {
+        return neo4jConnectionPoolSize;
+    }
+
+    public void setNeo4jConnectionPoolSize(Integer neo4jConnectionPoolSize) {
+        this.neo4jConnectionPoolSize = neo4jConnectionPoolSize;
+    }
+
+    public Long getNeo4jConnectionAcquisitionTimeout() {
+        return neo4jConnectionAcquisitionTimeout;
+    }
+
+    public void setNeo4jConnectionAcquisitionTimeout(Long neo4jConnectionAcquisitionTimeout) {
+        this.neo4jConnectionAcquisitionTimeout = neo4jConnectionAcquisitionTimeout;
+    }
+
+    public Long getNeo4jConnectionMaxLifetime() {
+        return neo4jConnectionMaxLifetime;
+    }
+
+    public void setNeo4jConnectionMaxLifetime(Long neo4jConnectionMaxLifetime) {
+        this.neo4jConnectionMaxLifetime = neo4jConnectionMaxLifetime;
+    }
+
+    public Long getNeo4jConnectionLivenessCheckTimeout() {
+        return neo4jConnectionLivenessCheckTimeout;
+    }
+
+    public void setNeo4jConnectionLivenessCheckTimeout(Long neo4jConnectionLivenessCheckTimeout) {
+        this.neo4jConnectionLivenessCheckTimeout = neo4jConnectionLivenessCheckTimeout;
+    }
+
+    public Long getNeo4jConnectionTimeout() {
+        return neo4jConnectionTimeout;
+    }
+
+    public void setNeo4jConnectionTimeout(Long neo4jConnectionTimeout) {
+        this.neo4jConnectionTimeout = neo4jConnectionTimeout;
+    }
+
+    public String getMetricsPrometheusHost() {
+        return metricsPrometheusHost;
+    }
+
+    public void setMetricsPrometheusHost(String metricsPrometheusHost) {
+        this.metricsPrometheusHost = metricsPrometheusHost;
+    }
+
+    public Integer getMetricsPrometheusPort() {
+        return metricsPrometheusPort;
+    }
+
+    public void setMetricsPrometheusPort(Integer metricsPrometheusPort) {
+        this.metricsPrometheusPort = metricsPrometheusPort;
+    }
+
+    public String getBootstrapMode() {
+        return bootstrapMode;
+    }
+
+    public void setBootstrapMode(String bootstrapMode) {
+        this.bootstrapMode = bootstrapMode;
+    }
+
+    public Integer getStartupProfileTop() {
+        return startupProfileTop;
+    }
+
+    public void setStartupProfileTop(Integer startupProfileTop) {
+        this.startupProfileTop = startupProfileTop;
+    }
+
+    public String getStartupProfileFile() {
+        return startupProfileFile;
+    }
+
+    public void setStartupProfileFile(String startupProfileFile) {
+        this.startupProfileFile = startupProfileFile;
+    }
+
+    public Integer getReactivePoolSize() {
+        return reactivePoolSize;
+    }
+
+    public void setReactivePoolSize(Integer reactivePoolSize) {
+        this.reactivePoolSize = reactivePoolSize;
+    }
+
+    public Integer getReactiveQueueCapacity() {
+        return reactiveQueueCapacity;
+    }
+
+    public void setReactiveQueueCapacity(Integer reactiveQueueCapacity) {
+        this.reactiveQueueCapacity = reactiveQueueCapacity;
+    }
+
+    public Integer getReactivePageSize() {
+        return reactivePageSize;
+    }
+
+    public void setReactivePageSize(Integer reactivePageSize) {
+        this.reactivePageSize = reactivePageSize;
+    }
+
     public String getDatasourceUrl() {
         return datasourceUrl;
     }
@@ -118,6 +461,262 @@ public class MyApplicationProperties {
         this.generatedIndexesOutputFilename = generatedIndexesOutputFilename;
     }
 
+    public String getIndexesAutoMode() {
+        return indexesAutoMode;
+    }
+
+    public void setIndexesAutoMode(String indexesAutoMode) {
+        this.indexesAutoMode = indexesAutoMode;
+    }
+
+    public Integer getDatasourcePoolMinimumIdle() {
+        return datasourcePoolMinimumIdle;
+    }
+
+    public void setDatasourcePoolMinimumIdle(Integer datasourcePoolMinimumIdle) {
+        this.datasourcePoolMinimumIdle = datasourcePoolMinimumIdle;
+    }
+
+    public Integer getDatasourcePoolMaximumSize() {
+        return datasourcePoolMaximumSize;
+    }
+
+    public void setDatasourcePoolMaximumSize(Integer datasourcePoolMaximumSize) {
+        this.datasourcePoolMaximumSize = datasourcePoolMaximumSize;
+    }
+
+    public Long getDatasourcePoolConnectionTimeout() {
+        return datasourcePoolConnectionTimeout;
+    }
+
+    public void setDatasourcePoolConnectionTimeout(Long datasourcePoolConnectionTimeout) {
+        this.datasourcePoolConnectionTimeout = datasourcePoolConnectionTimeout;
+    }
+
+    public Long getDatasourcePoolLeakDetectionThreshold() {
+        return datasourcePoolLeakDetectionThreshold;
+    }
+
+    public void setDatasourcePoolLeakDetectionThreshold(Long datasourcePoolLeakDetectionThreshold) {
+        this.datasourcePoolLeakDetectionThreshold = datasourcePoolLeakDetectionThreshold;
+    }
+
+    public Integer getDatasourcePgjdbcPrepareThreshold() {
+        return datasourcePgjdbcPrepareThreshold;
+    }
+
+    public void setDatasourcePgjdbcPrepareThreshold(Integer datasourcePgjdbcPrepareThreshold) {
+        this.datasourcePgjdbcPrepareThreshold = datasourcePgjdbcPrepareThreshold;
+    }
+
+    public Integer getDatasourcePgjdbcPreparedStatementCacheQueries() {
+        return datasourcePgjdbcPreparedStatementCacheQueries;
+    }
+
+    public void setDatasourcePgjdbcPreparedStatementCacheQueries(Integer datasourcePgjdbcPreparedStatementCacheQueries) {
+        this.datasourcePgjdbcPreparedStatementCacheQueries = datasourcePgjdbcPreparedStatementCacheQueries;
+    }
+
+    public String getDatasourceReplicaUrls() {
+        return datasourceReplicaUrls;
+    }
+
+    public void setDatasourceReplicaUrls(String datasourceReplicaUrls) {
+        this.datasourceReplicaUrls = datasourceReplicaUrls;
+    }
+
+    public String getDatasourceReplicaBalancing() {
+        return datasourceReplicaBalancing;
+    }
+
+    public void setDatasourceReplicaBalancing(String datasourceReplicaBalancing) {
+        this.datasourceReplicaBalancing = datasourceReplicaBalancing;
+    }
+
+    public Long getDatasourceReplicaMaxLag() {
+        return datasourceReplicaMaxLag;
+    }
+
+    public void setDatasourceReplicaMaxLag(Long datasourceReplicaMaxLag) {
+        this.datasourceReplicaMaxLag = datasourceReplicaMaxLag;
+    }
+
+    public String getDatasourceReplicaLagQuery() {
+        return datasourceReplicaLagQuery;
+    }
+
+    public void setDatasourceReplicaLagQuery(String datasourceReplicaLagQuery) {
+        this.datasourceReplicaLagQuery = datasourceReplicaLagQuery;
+    }
+
+    public Long getDatasourceReplicaLagCheckInterval() {
+        return datasourceReplicaLagCheckInterval;
+    }
+
+    public void setDatasourceReplicaLagCheckInterval(Long datasourceReplicaLagCheckInterval) {
+        this.datasourceReplicaLagCheckInterval = datasourceReplicaLagCheckInterval;
+    }
+
+    public Boolean getDemoEnabled() {
+        return demoEnabled;
+    }
+
+    public void setDemoEnabled(Boolean demoEnabled) {
+        this.demoEnabled = demoEnabled;
+    }
+
+    public Boolean getLoadEnabled() {
+        return loadEnabled;
+    }
+
+    public void setLoadEnabled(Boolean loadEnabled) {
+        this.loadEnabled = loadEnabled;
+    }
+
+    public Integer getLoadRate() {
+        return loadRate;
+    }
+
+    public void setLoadRate(Integer loadRate) {
+        this.loadRate = loadRate;
+    }
+
+    public Integer getLoadConcurrency() {
+        return loadConcurrency;
+    }
+
+    public void setLoadConcurrency(Integer loadConcurrency) {
+        this.loadConcurrency = loadConcurrency;
+    }
+
+    public Integer getLoadDuration() {
+        return loadDuration;
+    }
+
+    public void setLoadDuration(Integer loadDuration) {
+        this.loadDuration = loadDuration;
+    }
+
+    public Integer getLoadWarmup() {
+        return loadWarmup;
+    }
+
+    public void setLoadWarmup(Integer loadWarmup) {
+        this.loadWarmup = loadWarmup;
+    }
+
+    public Integer getLoadDatasetSize() {
+        return loadDatasetSize;
+    }
+
+    public void setLoadDatasetSize(Integer loadDatasetSize) {
+        this.loadDatasetSize = loadDatasetSize;
+    }
+
+    public String getLoadMix() {
+        return loadMix;
+    }
+
+    public void setLoadMix(String loadMix) {
+        this.loadMix = loadMix;
+    }
+
+    public Integer getLoadReportInterval() {
+        return loadReportInterval;
+    }
+
+    public void setLoadReportInterval(Integer loadReportInterval) {
+        this.loadReportInterval = loadReportInterval;
+    }
+
+    public String getLoadHistogramLog() {
+        return loadHistogramLog;
+    }
+
+    public void setLoadHistogramLog(String loadHistogramLog) {
+        this.loadHistogramLog = loadHistogramLog;
+    }
+
+    public Integer getBulkChunkSize() {
+        return bulkChunkSize;
+    }
+
+    public void setBulkChunkSize(Integer bulkChunkSize) {
+        this.bulkChunkSize = bulkChunkSize;
+    }
+
+    public Integer getDualWritePoolSize() {
+        return dualWritePoolSize;
+    }
+
+    public void setDualWritePoolSize(Integer dualWritePoolSize) {
+        this.dualWritePoolSize = dualWritePoolSize;
+    }
+
+    public Integer getDualWriteQueueCapacity() {
+        return dualWriteQueueCapacity;
+    }
+
+    public void setDualWriteQueueCapacity(Integer dualWriteQueueCapacity) {
+        this.dualWriteQueueCapacity = dualWriteQueueCapacity;
+    }
+
+    public Boolean getProjectionEnabled() {
+        return projectionEnabled;
+    }
+
+    public void setProjectionEnabled(Boolean projectionEnabled) {
+        this.projectionEnabled = projectionEnabled;
+    }
+
+    public Integer getProjectionBatchSize() {
+        return projectionBatchSize;
+    }
+
+    public void setProjectionBatchSize(Integer projectionBatchSize) {
+        this.projectionBatchSize = projectionBatchSize;
+    }
+
+    public Long getProjectionPollInterval() {
+        return projectionPollInterval;
+    }
+
+    public void setProjectionPollInterval(Long projectionPollInterval) {
+        this.projectionPollInterval = projectionPollInterval;
+    }
+
+    public Integer getStreamFetchSize() {
+        return streamFetchSize;
+    }
+
+    public void setStreamFetchSize(Integer streamFetchSize) {
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    public Integer getPersonLoadDepth() {
+        return personLoadDepth;
+    }
+
+    public void setPersonLoadDepth(Integer personLoadDepth) {
+        this.personLoadDepth = personLoadDepth;
+    }
+
+    public Long getPersonCacheMaximumSize() {
+        return personCacheMaximumSize;
+    }
+
+    public void setPersonCacheMaximumSize(Long personCacheMaximumSize) {
+        this.personCacheMaximumSize = personCacheMaximumSize;
+    }
+
+    public Long getPersonCacheTtlSeconds() {
+        return personCacheTtlSeconds;
+    }
+
+    public void setPersonCacheTtlSeconds(Long personCacheTtlSeconds) {
+        this.personCacheTtlSeconds = personCacheTtlSeconds;
+    }
+
     public void log() {
         LOGGER.debug("-------------------------------------------------------------");
         LOGGER.debug("   Neo4J Driver Configuration                                ");
@@ -125,12 +724,64 @@ public class MyApplicationProperties {
         LOGGER.debug("   spring.profiles.active = " + this.springProfilesActive + "");
         LOGGER.debug("-------------------------------------------------------------");
         LOGGER.debug("   spring.data.neo4j.URI = " + this.neo4jUri + "             ");
+        LOGGER.debug("   spring.data.neo4j.graphDbFileName = " + this.neo4jEmbeddedDirectory + " ");
+        LOGGER.debug("   spring.data.neo4j.embedded.pagecache.size = " + this.neo4jEmbeddedPageCacheSize + " ");
+        LOGGER.debug("   spring.data.neo4j.embedded.tx.log.rotation.size = " + this.neo4jEmbeddedTxLogRotationSize + " ");
+        LOGGER.debug("   spring.data.neo4j.embedded.tx.log.retention = " + this.neo4jEmbeddedTxLogRetention + " ");
+        LOGGER.debug("   spring.data.neo4j.embedded.warmup.enabled = " + this.neo4jEmbeddedWarmupEnabled + " ");
+        LOGGER.debug("   spring.data.neo4j.connection.pool.size = " + this.neo4jConnectionPoolSize + " ");
+        LOGGER.debug("   spring.data.neo4j.connection.acquisition.timeout = " + this.neo4jConnectionAcquisitionTimeout + " ");
+        LOGGER.debug("   spring.data.neo4j.connection.max.lifetime = " + this.neo4jConnectionMaxLifetime + " ");
+        LOGGER.debug("   spring.data.neo4j.connection.liveness.check.timeout = " + this.neo4jConnectionLivenessCheckTimeout + " ");
+        LOGGER.debug("   spring.data.neo4j.connection.timeout = " + this.neo4jConnectionTimeout + " ");
+        LOGGER.debug("   spring.data.neo4j.indexes.auto.mode = " + this.indexesAutoMode + " ");
         LOGGER.debug("-------------------------------------------------------------");
         LOGGER.debug("   spring.datasource.driver-class-name = " + this.datasourceDriverClassName + " ");
         LOGGER.debug("   spring.datasource.url = " + this.datasourceUrl + "        ");
         LOGGER.debug("   spring.datasource.url = " + this.datasourceUsername + "   ");
         LOGGER.debug("   spring.datasource.url = " + this.datasourcePassword + "   ");
         LOGGER.debug("-------------------------------------------------------------");
+        LOGGER.debug("   app.datasource.pool.minimum.idle = " + this.datasourcePoolMinimumIdle + " ");
+        LOGGER.debug("   app.datasource.pool.maximum.size = " + this.datasourcePoolMaximumSize + " ");
+        LOGGER.debug("   app.datasource.pool.connection.timeout = " + this.datasourcePoolConnectionTimeout + " ");
+        LOGGER.debug("   app.datasource.pool.leak.detection.threshold = " + this.datasourcePoolLeakDetectionThreshold + " ");
+        LOGGER.debug("   app.datasource.pgjdbc.prepare.threshold = " + this.datasourcePgjdbcPrepareThreshold + " ");
+        LOGGER.debug("   app.datasource.pgjdbc.prepared.statement.cache.queries = " + this.datasourcePgjdbcPreparedStatementCacheQueries + " ");
+        LOGGER.debug("   app.datasource.replica.urls = " + this.datasourceReplicaUrls + " ");
+        LOGGER.debug("   app.datasource.replica.balancing = " + this.datasourceReplicaBalancing + " ");
+        LOGGER.debug("   app.datasource.replica.max.lag = " + this.datasourceReplicaMaxLag + " ");
+        LOGGER.debug("   app.datasource.replica.lag.query = " + this.datasourceReplicaLagQuery + " ");
+        LOGGER.debug("   app.datasource.replica.lag.check.interval = " + this.datasourceReplicaLagCheckInterval + " ");
+        LOGGER.debug("-------------------------------------------------------------");
+        LOGGER.debug("   app.demo.enabled = " + this.demoEnabled + "            ");
+        LOGGER.debug("   app.load.enabled = " + this.loadEnabled + " ");
+        LOGGER.debug("   app.load.rate = " + this.loadRate + " ");
+        LOGGER.debug("   app.load.concurrency = " + this.loadConcurrency + " ");
+        LOGGER.debug("   app.load.duration = " + this.loadDuration + " ");
+        LOGGER.debug("   app.load.warmup = " + this.loadWarmup + " ");
+        LOGGER.debug("   app.load.dataset.size = " + this.loadDatasetSize + " ");
+        LOGGER.debug("   app.load.mix = " + this.loadMix + " ");
+        LOGGER.debug("   app.load.report.interval = " + this.loadReportInterval + " ");
+        LOGGER.debug("   app.load.histogram.log = " + this.loadHistogramLog + " ");
+        LOGGER.debug("   app.metrics.prometheus.host = " + this.metricsPrometheusHost + " ");
+        LOGGER.debug("   app.metrics.prometheus.port = " + this.metricsPrometheusPort + " ");
+        LOGGER.debug("   app.bulk.chunk.size = " + this.bulkChunkSize + "          ");
+        LOGGER.debug("   app.bootstrap.mode = " + this.bootstrapMode + "        ");
+        LOGGER.debug("   app.startup.profile.top = " + this.startupProfileTop + " ");
+        LOGGER.debug("   app.startup.profile.file = " + this.startupProfileFile + " ");
+        LOGGER.debug("   app.dualwrite.pool.size = " + this.dualWritePoolSize + "  ");
+        LOGGER.debug("   app.dualwrite.queue.capacity = " + this.dualWriteQueueCapacity + " ");
+        LOGGER.debug("   app.reactive.pool.size = " + this.reactivePoolSize + "   ");
+        LOGGER.debug("   app.reactive.queue.capacity = " + this.reactiveQueueCapacity + " ");
+        LOGGER.debug("   app.reactive.page.size = " + this.reactivePageSize + "   ");
+        LOGGER.debug("   app.projection.enabled = " + this.projectionEnabled + "   ");
+        LOGGER.debug("   app.projection.batch.size = " + this.projectionBatchSize + " ");
+        LOGGER.debug("   app.projection.poll.interval = " + this.projectionPollInterval + " ");
+        LOGGER.debug("   app.stream.fetch.size = " + this.streamFetchSize + "      ");
+        LOGGER.debug("   app.person.load.depth = " + this.personLoadDepth + "      ");
+        LOGGER.debug("   app.person.cache.maximum.size = " + this.personCacheMaximumSize + " ");
+        LOGGER.debug("   app.person.cache.ttl = " + this.personCacheTtlSeconds + "s  ");
+        LOGGER.debug("-------------------------------------------------------------");
     }
 
     private static final Log LOGGER = LogFactory.getLog(ConfigurationDevelopment.class);
@@ -0,0 +1,75 @@
+package org.springframework.data.examples.boot.dualwrite;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of one dual write: the value or the error of each side plus its latency.
+ */
+public class DualWriteResult<J, N> {
+
+    private J jpaResult;
+
+    private N neo4jResult;
+
+    private Throwable jpaError;
+
+    private Throwable neo4jError;
+
+    private long jpaNanos;
+
+    private long neo4jNanos;
+
+    void jpaSucceeded(J result, long nanos) {
+        this.jpaResult = result;
+        this.jpaNanos = nanos;
+    }
+
+    void jpaFailed(Throwable error, long nanos) {
+        this.jpaError = error;
+        this.jpaNanos = nanos;
+    }
+
+    void neo4jSucceeded(N result, long nanos) {
+        this.neo4jResult = result;
+        this.neo4jNanos = nanos;
+    }
+
+    void neo4jFailed(Throwable error, long nanos) {
+        this.neo4jError = error;
+        this.neo4jNanos = nanos;
+    }
+
+    public boolean isSuccess() {
+        return jpaError == null && neo4jError == null;
+    }
+
+    public J getJpaResult() {
+        return jpaResult;
+    }
+
+    public N getNeo4jResult() {
+        return neo4jResult;
+    }
+
+    public Throwable getJpaError() {
+        return jpaError;
+    }
+
+    public Throwable getNeo4jError() {
+        return neo4jError;
+    }
+
+    public long getJpaMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(jpaNanos);
+    }
+
+    public long getNeo4jMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(neo4jNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "DualWriteResult: jpa=" + (jpaError == null ? "ok" : "failed") + " " + getJpaMillis() + "ms"
+            + ", neo4j=" + (neo4jError == null ? "ok" : "failed") + " " + getNeo4jMillis() + "ms";
+    }
+}
@@ -0,0 +1,22 @@
+package org.springframework.data.examples.boot.dualwrite;
+
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.support.BulkIngestReport;
+
+import java.util.List;
+
+/**
+ * Writes the JPA and the Neo4j representation of the same logical entity concurrently,
+ * each on its own executor and in its own transaction.
+ */
+public interface DualWriteService {
+
+    DualWriteResult<Customer, Person> save(Customer customer, Person person);
+
+    /**
+     * {@code customers.get(i)} and {@code people.get(i)} are the same logical entity, which is how
+     * compensations of a side that failed name both ids of every pair it is missing.
+     */
+    DualWriteResult<BulkIngestReport, BulkIngestReport> saveAll(List<Customer> customers, List<Person> people);
+}
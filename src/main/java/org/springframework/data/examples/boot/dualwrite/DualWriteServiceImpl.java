@@ -0,0 +1,198 @@
+package org.springframework.data.examples.boot.dualwrite;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.domain.DualWriteCompensation;
+import org.springframework.data.examples.boot.jpa.repository.DualWriteCompensationRepository;
+import org.springframework.data.examples.boot.jpa.service.CustomerService;
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.neo4j.service.PersonService;
+import org.springframework.data.examples.boot.support.BulkIngestException;
+import org.springframework.data.examples.boot.support.BulkIngestReport;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the JPA write on {@code jpaWriteExecutor} and the Neo4j write on {@code neo4jWriteExecutor},
+ * so the latency of a dual write is the slower of both stores instead of their sum.
+ * When only one side fails a {@link DualWriteCompensation} is recorded for the side that is missing;
+ * a bulk write records one per pair of customer and person that did not reach the failed store.
+ */
+@Service
+public class DualWriteServiceImpl implements DualWriteService {
+
+    public static final String STORE_JPA = "jpa";
+
+    public static final String STORE_NEO4J = "neo4j";
+
+    private final CustomerService customerService;
+
+    private final PersonService personService;
+
+    private final DualWriteCompensationRepository compensationRepository;
+
+    private final TaskExecutor jpaWriteExecutor;
+
+    private final TaskExecutor neo4jWriteExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public DualWriteServiceImpl(
+        CustomerService customerService,
+        PersonService personService,
+        DualWriteCompensationRepository compensationRepository,
+        @Qualifier("jpaWriteExecutor") TaskExecutor jpaWriteExecutor,
+        @Qualifier("neo4jWriteExecutor") TaskExecutor neo4jWriteExecutor,
+        MeterRegistry meterRegistry
+    ) {
+        this.customerService = customerService;
+        this.personService = personService;
+        this.compensationRepository = compensationRepository;
+        this.jpaWriteExecutor = jpaWriteExecutor;
+        this.neo4jWriteExecutor = neo4jWriteExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public DualWriteResult<Customer, Person> save(Customer customer, Person person) {
+        DualWriteResult<Customer, Person> result = write(
+            () -> customerService.save(customer),
+            () -> personService.save(person)
+        );
+        if (result.getJpaError() != null && result.getNeo4jError() == null) {
+            compensate(STORE_JPA, result.getJpaError(), Collections.singletonList(new DualWriteCompensation(
+                Customer.class.getSimpleName(), STORE_JPA, customer.getId(), result.getNeo4jResult().getId(),
+                result.getJpaError().getMessage())));
+        }
+        if (result.getNeo4jError() != null && result.getJpaError() == null) {
+            compensate(STORE_NEO4J, result.getNeo4jError(), Collections.singletonList(new DualWriteCompensation(
+                Person.class.getSimpleName(), STORE_NEO4J, result.getJpaResult().getId(), person.getId(),
+                result.getNeo4jError().getMessage())));
+        }
+        LOGGER.debug(result.toString());
+        return result;
+    }
+
+    @Override
+    public DualWriteResult<BulkIngestReport, BulkIngestReport> saveAll(List<Customer> customers, List<Person> people) {
+        if (customers.size() != people.size()) {
+            throw new IllegalArgumentException(
+                "customers and people must pair up but are " + customers.size() + " and " + people.size()
+            );
+        }
+        // a failed side may have handed out ids in a transaction that rolled back
+        List<Long> customerIds = ids(customers, Customer::getId);
+        List<Long> personIds = ids(people, Person::getId);
+        DualWriteResult<BulkIngestReport, BulkIngestReport> result = write(
+            () -> customerService.saveAll(customers.iterator()),
+            () -> personService.saveAll(people.iterator())
+        );
+        if (result.getJpaError() != null && result.getNeo4jError() == null) {
+            List<DualWriteCompensation> compensations = new ArrayList<>(customers.size());
+            for (int i = committedRows(result.getJpaError()); i < customers.size(); i++) {
+                compensations.add(new DualWriteCompensation(
+                    Customer.class.getSimpleName(), STORE_JPA, customerIds.get(i), people.get(i).getId(),
+                    result.getJpaError().getMessage()));
+            }
+            compensate(STORE_JPA, result.getJpaError(), compensations);
+        }
+        if (result.getNeo4jError() != null && result.getJpaError() == null) {
+            List<DualWriteCompensation> compensations = new ArrayList<>(people.size());
+            for (int i = committedRows(result.getNeo4jError()); i < people.size(); i++) {
+                compensations.add(new DualWriteCompensation(
+                    Person.class.getSimpleName(), STORE_NEO4J, customers.get(i).getId(), personIds.get(i),
+                    result.getNeo4jError().getMessage()));
+            }
+            compensate(STORE_NEO4J, result.getNeo4jError(), compensations);
+        }
+        LOGGER.info(result.toString());
+        return result;
+    }
+
+    private static <T> List<Long> ids(List<T> entities, Function<T, Long> id) {
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            ids.add(id.apply(entity));
+        }
+        return ids;
+    }
+
+    /**
+     * The leading rows a failed bulk write committed before it failed; these need no compensation.
+     */
+    private static int committedRows(Throwable error) {
+        if (error instanceof BulkIngestException) {
+            return (int) ((BulkIngestException) error).getReport().getRows();
+        }
+        return 0;
+    }
+
+    private <J, N> DualWriteResult<J, N> write(Supplier<J> jpaWrite, Supplier<N> neo4jWrite) {
+        DualWriteResult<J, N> result = new DualWriteResult<>();
+        CompletableFuture<Void> jpa = submit(STORE_JPA, jpaWrite, jpaWriteExecutor,
+            result::jpaSucceeded, result::jpaFailed);
+        CompletableFuture<Void> neo4j = submit(STORE_NEO4J, neo4jWrite, neo4jWriteExecutor,
+            result::neo4jSucceeded, result::neo4jFailed);
+        CompletableFuture.allOf(jpa, neo4j).join();
+        return result;
+    }
+
+    private <T> CompletableFuture<Void> submit(
+        String store,
+        Supplier<T> write,
+        TaskExecutor executor,
+        BiConsumer<T, Long> onSuccess,
+        BiConsumer<Throwable, Long> onFailure
+    ) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                T value = write.get();
+                long nanos = System.nanoTime() - start;
+                timer(store, "success").record(nanos, TimeUnit.NANOSECONDS);
+                onSuccess.accept(value, nanos);
+            } catch (RuntimeException e) {
+                long nanos = System.nanoTime() - start;
+                timer(store, "failure").record(nanos, TimeUnit.NANOSECONDS);
+                LOGGER.error("dual write to " + store + " failed: " + e.getMessage(), e);
+                onFailure.accept(e, nanos);
+            }
+        }, executor);
+    }
+
+    private Timer timer(String store, String outcome) {
+        return Timer.builder("dualwrite.latency")
+            .description("Latency of one side of a dual write")
+            .tag("store", store)
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    private void compensate(String failedStore, Throwable error, List<DualWriteCompensation> compensations) {
+        meterRegistry.counter("dualwrite.compensations", "store", failedStore).increment(compensations.size());
+        try {
+            compensationRepository.saveAll(compensations);
+        } catch (RuntimeException e) {
+            LOGGER.error("could not record " + compensations.size() + " compensations for " + failedStore
+                + " after: " + error.getMessage(), e);
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(DualWriteServiceImpl.class);
+}
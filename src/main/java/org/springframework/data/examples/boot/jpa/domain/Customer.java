@@ -1,32 +1,69 @@
 package org.springframework.data.examples.boot.jpa.domain;
 
-import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.springframework.data.examples.boot.support.EntityFormat;
 
 import javax.persistence.*;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static javax.persistence.CascadeType.ALL;
-import static javax.persistence.FetchType.EAGER;
+import static javax.persistence.FetchType.LAZY;
 
 /**
  * @author Mark Angrish
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = Customer.GRAPH_SUMMARY),
+    @NamedEntityGraph(name = Customer.GRAPH_WITH_TEAM, attributeNodes = @NamedAttributeNode("teamMate"))
+})
 public class Customer {
 
+    /** Fetch plan without teammates. */
+    public static final String GRAPH_SUMMARY = "Customer.summary";
+
+    /** Fetch plan with the direct teammates, one level deep. */
+    public static final String GRAPH_WITH_TEAM = "Customer.withTeam";
+
+    /** Query cache region for the lookups by last name. */
+    public static final String QUERY_CACHE_REGION_BY_LAST_NAME = "customerByLastName";
+
+    /**
+     * Ids reserved per {@code customer_seq} call. The pooled-lo optimizer hands out this many ids
+     * from one {@code nextval}, so inserts need no extra round trip and can be JDBC batched; the
+     * sequence increment in the migrations must be the same.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+    @GenericGenerator(
+        name = "customer_seq",
+        strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+        parameters = {
+            @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "customer_seq"),
+            @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE),
+            @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+        }
+    )
 	private Long id;
 
 	private String firstName;
 
 	private String lastName;
 
-    @OneToMany(cascade=ALL,fetch=EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @OneToMany(cascade=ALL,fetch=LAZY)
     @JoinColumn(name="teamMate_id", nullable=true,referencedColumnName="id")
     private Set<Customer> teamMate;
 
@@ -57,13 +94,39 @@ public class Customer {
 		return lastName;
 	}
 
+    public Set<Customer> getTeamMate() {
+        return Optional.ofNullable(this.teamMate).orElse(Collections.emptySet());
+    }
+
     @Override
     public String toString() {
+        return appendTo(EntityFormat.buffer()).toString();
+    }
+
+    /**
+     * Appends what {@link #toString()} returns, with at most {@link EntityFormat#MAX_TEAM_MATES}
+     * teammates; teammates that are not loaded are not loaded for this.
+     */
+    public StringBuilder appendTo(StringBuilder buffer) {
+        appendName(buffer.append("Customer: ")).append("'s teammates => ");
+        if (!Hibernate.isInitialized(this.teamMate)) {
+            return buffer.append("(not loaded)");
+        }
+        buffer.append('[');
+        if (this.teamMate != null) {
+            int index = 0;
+            for (Customer customer : this.teamMate) {
+                if (!EntityFormat.nextTeamMate(buffer, index++, this.teamMate.size())) {
+                    break;
+                }
+                customer.appendName(buffer);
+            }
+        }
+        return buffer.append(']');
+    }
 
-        return "Customer: " + getName() + "'s teammates => "
-            + Optional.ofNullable(this.teamMate).orElse(
-            Collections.emptySet()).stream().map(
-            Customer::getName).collect(Collectors.toList());
+    private StringBuilder appendName(StringBuilder buffer) {
+        return buffer.append(this.firstName).append(' ').append(this.lastName);
     }
 
     @Transient
@@ -0,0 +1,18 @@
+package org.springframework.data.examples.boot.jpa.domain;
+
+/**
+ * One row of a customer's team tree as returned by the recursive team query: the member's
+ * columns, the customer it is a teammate of and its distance from the root of the tree.
+ */
+public interface CustomerTeamMember {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    Long getTeamMateOf();
+
+    Integer getDepth();
+}
@@ -0,0 +1,85 @@
+package org.springframework.data.examples.boot.jpa.domain;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * Records a logical entity whose dual write succeeded in one store but failed in the other,
+ * so it can be replayed or repaired later. The id of the failed store is the one the entity had
+ * before the write, null when it did not exist there yet; the other id is where to repair it from.
+ */
+@Entity
+public class DualWriteCompensation {
+
+    public static final String STATUS_PENDING = "PENDING";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+
+    private Instant createdAt;
+
+    private String entityName;
+
+    private String failedStore;
+
+    private Long customerId;
+
+    private Long personId;
+
+    @Column(length = 2000)
+    private String errorMessage;
+
+    private String status;
+
+    protected DualWriteCompensation() {
+    }
+
+    public DualWriteCompensation(String entityName, String failedStore, Long customerId, Long personId, String errorMessage) {
+        this.createdAt = Instant.now();
+        this.entityName = entityName;
+        this.failedStore = failedStore;
+        this.customerId = customerId;
+        this.personId = personId;
+        this.errorMessage = errorMessage;
+        this.status = STATUS_PENDING;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public String getFailedStore() {
+        return failedStore;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public Long getPersonId() {
+        return personId;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return "DualWriteCompensation: " + entityName + " failed in " + failedStore
+            + " (customerId=" + customerId + ", personId=" + personId + ") " + errorMessage;
+    }
+}
@@ -0,0 +1,87 @@
+package org.springframework.data.examples.boot.jpa.domain;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox row written in the same JPA transaction as a {@link Customer}; it carries everything
+ * the graph projector needs to MERGE the matching Person node and its TEAM_MATE relationships.
+ */
+@Entity
+public class GraphOutboxEvent {
+
+    /**
+     * Ids reserved per {@code graph_outbox_event_seq} call, as with {@link Customer#ID_ALLOCATION_SIZE}:
+     * the events of a bulk ingest are JDBC batched with the customers instead of costing a
+     * {@code nextval} each. The sequence increment in the migrations must be the same.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "graph_outbox_event_seq")
+    @GenericGenerator(
+        name = "graph_outbox_event_seq",
+        strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+        parameters = {
+            @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "graph_outbox_event_seq"),
+            @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE),
+            @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+        }
+    )
+    private Long id;
+
+    private Instant createdAt;
+
+    private Long customerId;
+
+    private String name;
+
+    /** One row per team mate, so the size of a team is not bounded by a column length. */
+    @ElementCollection
+    @CollectionTable(name = "graph_outbox_team_mate", joinColumns = @JoinColumn(name = "event_id"))
+    @Column(name = "team_mate_id", nullable = false)
+    @BatchSize(size = 100)
+    private List<Long> teamMateIds = new ArrayList<>();
+
+    protected GraphOutboxEvent() {
+    }
+
+    public GraphOutboxEvent(Customer customer) {
+        this.createdAt = Instant.now();
+        this.customerId = customer.getId();
+        this.name = customer.getName();
+        for (Customer teamMate : customer.getTeamMate()) {
+            this.teamMateIds.add(teamMate.getId());
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Lazily loaded, in batches of 100 events; read it inside the transaction that loaded the event.
+     */
+    public List<Long> getTeamMateIds() {
+        return teamMateIds;
+    }
+}
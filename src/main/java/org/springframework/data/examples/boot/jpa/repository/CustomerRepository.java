@@ -1,17 +1,76 @@
 package org.springframework.data.examples.boot.jpa.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.domain.CustomerTeamMember;
 //import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * @author Mark Angrish
  */
 @Repository
-public interface CustomerRepository extends CrudRepository<Customer, Long> {
+public interface CustomerRepository extends PagingAndSortingRepository<Customer, Long> {
 
+	@EntityGraph(Customer.GRAPH_SUMMARY)
+	@QueryHints({
+		@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = Customer.QUERY_CACHE_REGION_BY_LAST_NAME)
+	})
 	List<Customer> findByLastName(String lastName);
+
+	/**
+	 * Not cacheable: on a query cache hit Hibernate loads the customers by id and ignores the
+	 * entity graph, so the teammates would not be fetched.
+	 */
+	@EntityGraph(Customer.GRAPH_WITH_TEAM)
+	@Query("select distinct c from Customer c where c.lastName = :lastName")
+	List<Customer> findWithTeamByLastName(@Param("lastName") String lastName);
+
+	@EntityGraph(Customer.GRAPH_WITH_TEAM)
+	@Query("select distinct c from Customer c")
+	List<Customer> findAllWithTeam();
+
+	@EntityGraph(Customer.GRAPH_WITH_TEAM)
+	@Query("select c from Customer c where c.id = :id")
+	Optional<Customer> findWithTeamById(@Param("id") Long id);
+
+	@EntityGraph(Customer.GRAPH_SUMMARY)
+	@Query("select c from Customer c")
+	Slice<Customer> findSlice(Pageable pageable);
+
+	/**
+	 * Keyset pagination: seeks past {@code afterId} on the primary key instead of skipping rows.
+	 */
+	@EntityGraph(Customer.GRAPH_SUMMARY)
+	List<Customer> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+	/**
+	 * The team tree below {@code rootId} down to {@code maxDepth} levels in one round trip,
+	 * breadth first. Plain SQL:1999 recursive CTE, runs unchanged on H2 and PostgreSQL.
+	 */
+	@Query(nativeQuery = true, value =
+		"WITH RECURSIVE \"team\" (\"id\", \"first_name\", \"last_name\", \"team_mate_id\", \"depth\") AS ("
+			+ " SELECT c.\"id\", c.\"first_name\", c.\"last_name\", c.\"team_mate_id\", 0"
+			+ " FROM \"customer\" c WHERE c.\"id\" = :rootId"
+			+ " UNION ALL"
+			+ " SELECT m.\"id\", m.\"first_name\", m.\"last_name\", m.\"team_mate_id\", t.\"depth\" + 1"
+			+ " FROM \"customer\" m JOIN \"team\" t ON m.\"team_mate_id\" = t.\"id\""
+			+ " WHERE t.\"depth\" < :maxDepth"
+			+ ")"
+			+ " SELECT \"id\" AS \"id\", \"first_name\" AS \"firstName\", \"last_name\" AS \"lastName\","
+			+ " \"team_mate_id\" AS \"teamMateOf\", \"depth\" AS \"depth\""
+			+ " FROM \"team\" WHERE \"depth\" > 0 ORDER BY \"depth\", \"id\"")
+	List<CustomerTeamMember> findTeamTree(@Param("rootId") Long rootId, @Param("maxDepth") int maxDepth);
 }
@@ -0,0 +1,13 @@
+package org.springframework.data.examples.boot.jpa.repository;
+
+import org.springframework.data.examples.boot.jpa.domain.DualWriteCompensation;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DualWriteCompensationRepository extends CrudRepository<DualWriteCompensation, Long> {
+
+    List<DualWriteCompensation> findByStatus(String status);
+}
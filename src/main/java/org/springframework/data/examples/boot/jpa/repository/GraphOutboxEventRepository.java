@@ -0,0 +1,25 @@
+package org.springframework.data.examples.boot.jpa.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.examples.boot.jpa.domain.GraphOutboxEvent;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GraphOutboxEventRepository extends CrudRepository<GraphOutboxEvent, Long> {
+
+    List<GraphOutboxEvent> findByOrderByIdAsc(Pageable pageable);
+
+    Optional<GraphOutboxEvent> findFirstByOrderByIdAsc();
+
+    @Modifying
+    @Query("delete from GraphOutboxEvent e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,13 @@
+package org.springframework.data.examples.boot.jpa.service;
+
+/**
+ * How much of the Customer graph a read loads in a single query.
+ */
+public enum CustomerFetchPlan {
+
+    /** Customer columns only, teammates stay lazy. */
+    SUMMARY,
+
+    /** Customer plus its direct teammates, fetched with one join. */
+    WITH_TEAM
+}
@@ -1,23 +1,95 @@
 package org.springframework.data.examples.boot.jpa.service;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.domain.CustomerTeamMember;
+import org.springframework.data.examples.boot.support.BulkIngestReport;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * @author Thomas Woehlke
  */
 public interface CustomerService {
 
+    /**
+     * Same as {@link #findByLastName(String, CustomerFetchPlan)} with {@link CustomerFetchPlan#SUMMARY}.
+     */
     List<Customer> findByLastName(String lastName);
 
+    List<Customer> findByLastName(String lastName, CustomerFetchPlan fetchPlan);
+
+    /**
+     * Same as {@link #findAll(CustomerFetchPlan)} with {@link CustomerFetchPlan#SUMMARY}.
+     */
     Iterable<Customer> findAll();
 
+    Iterable<Customer> findAll(CustomerFetchPlan fetchPlan);
+
+    Page<Customer> findAll(Pageable pageable);
+
+    /**
+     * Like {@link #findAll(Pageable)} but without the count query.
+     */
+    Slice<Customer> findSlice(Pageable pageable);
+
+    /**
+     * Keyset pagination: the next {@code size} customers ordered by id after {@code afterId};
+     * pass {@code 0} for the first page and the last id of the previous page afterwards.
+     */
+    List<Customer> findAllAfterId(Long afterId, int size);
+
+    /**
+     * Streams all customers over a forward-only cursor with {@code app.stream.fetch.size}.
+     * Each entity is detached as it is emitted, so the persistence context stays empty.
+     * Must be called inside a {@code jpaTransactionManager} transaction and closed by the caller.
+     */
+    Stream<Customer> streamAll();
+
+    /**
+     * Runs {@link #streamAll()} in its own read-only transaction.
+     *
+     * @return number of customers passed to the consumer
+     */
+    long forEach(Consumer<? super Customer> consumer);
+
+    /**
+     * Same as {@link #findById(Long, CustomerFetchPlan)} with {@link CustomerFetchPlan#SUMMARY}.
+     */
     Optional<Customer> findById(Long id);
 
+    Optional<Customer> findById(Long id, CustomerFetchPlan fetchPlan);
+
+    /**
+     * The teammates of {@code rootId}, their teammates and so on down to {@code maxDepth}
+     * levels, as flat rows from a single recursive query, nearest first.
+     */
+    List<CustomerTeamMember> findTeamTree(Long rootId, int maxDepth);
+
+    /**
+     * Saves the entity; with {@code app.projection.enabled} a GraphOutboxEvent is recorded
+     * in the same transaction for the asynchronous Neo4j projection, for the entity and for the
+     * teammates saved with it by cascade.
+     */
     Customer save(Customer entity);
 
+    /**
+     * Persists all entities in chunks of {@code app.bulk.chunk.size}, each in its own
+     * transaction, flushing and clearing the persistence context after each chunk so Hibernate
+     * can send JDBC batches. Runs outside any transaction of the caller: a failure rolls back
+     * only its chunk and is thrown as a {@link org.springframework.data.examples.boot.support.BulkIngestException}
+     * whose report has the rows committed before it.
+     */
+    BulkIngestReport saveAll(Iterator<Customer> entities);
+
+    BulkIngestReport saveAll(Stream<Customer> entities);
+
     void deleteAll();
 
 }
@@ -1,14 +1,43 @@
 package org.springframework.data.examples.boot.jpa.service;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.QueryHints;
+import org.hibernate.query.Query;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
 import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.domain.CustomerTeamMember;
+import org.springframework.data.examples.boot.jpa.domain.GraphOutboxEvent;
 import org.springframework.data.examples.boot.jpa.repository.CustomerRepository;
+import org.springframework.data.examples.boot.jpa.repository.GraphOutboxEventRepository;
+import org.springframework.data.examples.boot.support.BulkIngestException;
+import org.springframework.data.examples.boot.support.BulkIngestReport;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 /**
@@ -20,33 +49,231 @@ public class CustomerServiceImpl implements CustomerService {
 
     private final CustomerRepository customerRepository;
 
+    private final GraphOutboxEventRepository graphOutboxEventRepository;
+
+    private final MyApplicationProperties myApplicationProperties;
+
+    private final TransactionTemplate chunkTransactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Autowired
-    public CustomerServiceImpl(CustomerRepository customerRepository) {
+    public CustomerServiceImpl(
+        CustomerRepository customerRepository,
+        GraphOutboxEventRepository graphOutboxEventRepository,
+        MyApplicationProperties myApplicationProperties,
+        @Qualifier("jpaTransactionManager") PlatformTransactionManager jpaTransactionManager
+    ) {
         this.customerRepository = customerRepository;
+        this.graphOutboxEventRepository = graphOutboxEventRepository;
+        this.myApplicationProperties = myApplicationProperties;
+        this.chunkTransactionTemplate = new TransactionTemplate(jpaTransactionManager);
     }
 
     @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
     public List<Customer> findByLastName(String lastName) {
-        return this.customerRepository.findByLastName(lastName);
+        return findByLastName(lastName, CustomerFetchPlan.SUMMARY);
     }
 
     @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
+    public List<Customer> findByLastName(String lastName, CustomerFetchPlan fetchPlan) {
+        switch (fetchPlan) {
+            case WITH_TEAM:
+                return this.customerRepository.findWithTeamByLastName(lastName);
+            default:
+                return this.customerRepository.findByLastName(lastName);
+        }
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
     public Iterable<Customer> findAll() {
-        return this.customerRepository.findAll();
+        return findAll(CustomerFetchPlan.SUMMARY);
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
+    public Iterable<Customer> findAll(CustomerFetchPlan fetchPlan) {
+        switch (fetchPlan) {
+            case WITH_TEAM:
+                return this.customerRepository.findAllWithTeam();
+            default:
+                return this.customerRepository.findAll();
+        }
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
+    public Page<Customer> findAll(Pageable pageable) {
+        return this.customerRepository.findAll(pageable);
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
+    public Slice<Customer> findSlice(Pageable pageable) {
+        return this.customerRepository.findSlice(pageable);
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
+    public List<Customer> findAllAfterId(Long afterId, int size) {
+        return this.customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<Customer> streamAll() {
+        @SuppressWarnings("unchecked")
+        Query<Customer> query = this.entityManager
+            .createQuery("select c from Customer c order by c.id", Customer.class)
+            .setHint(QueryHints.HINT_FETCH_SIZE, this.myApplicationProperties.getStreamFetchSize())
+            .setHint(QueryHints.HINT_READONLY, true)
+            .unwrap(Query.class);
+        return query.stream()
+            .map(customer -> {
+                this.entityManager.detach(customer);
+                return customer;
+            });
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
+    public long forEach(Consumer<? super Customer> consumer) {
+        long count = 0;
+        try (Stream<Customer> customers = streamAll()) {
+            Iterator<Customer> iterator = customers.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
     }
 
     @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
     public Optional<Customer> findById(Long id) {
-        return this.customerRepository.findById(id);
+        return findById(id, CustomerFetchPlan.SUMMARY);
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
+    public Optional<Customer> findById(Long id, CustomerFetchPlan fetchPlan) {
+        switch (fetchPlan) {
+            case WITH_TEAM:
+                return this.customerRepository.findWithTeamById(id);
+            default:
+                return this.customerRepository.findById(id);
+        }
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", readOnly = true)
+    public List<CustomerTeamMember> findTeamTree(Long rootId, int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be at least 1 but was " + maxDepth);
+        }
+        return this.customerRepository.findTeamTree(rootId, maxDepth);
     }
 
     @Override
     public Customer save(Customer entity) {
-        return this.customerRepository.save(entity);
+        Customer saved = this.customerRepository.save(entity);
+        if (this.myApplicationProperties.getProjectionEnabled()) {
+            recordOutboxEvents(saved, this.graphOutboxEventRepository::save);
+        }
+        return saved;
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", propagation = Propagation.NOT_SUPPORTED)
+    public BulkIngestReport saveAll(Iterator<Customer> entities) {
+        int chunkSize = this.myApplicationProperties.getBulkChunkSize();
+        BulkIngestReport report = new BulkIngestReport("jpa");
+        boolean projectionEnabled = this.myApplicationProperties.getProjectionEnabled();
+        try {
+            while (entities.hasNext()) {
+                report.chunkWritten(this.chunkTransactionTemplate.execute(
+                    status -> writeChunk(entities, chunkSize, projectionEnabled)
+                ));
+            }
+        } catch (RuntimeException e) {
+            report.failed(e);
+            LOGGER.error(report.toString(), e);
+            throw new BulkIngestException(report, e);
+        }
+        report.finish();
+        LOGGER.info(report.toString());
+        return report;
+    }
+
+    @Override
+    @Transactional(value = "jpaTransactionManager", propagation = Propagation.NOT_SUPPORTED)
+    public BulkIngestReport saveAll(Stream<Customer> entities) {
+        try (Stream<Customer> stream = entities) {
+            return saveAll(stream.iterator());
+        }
+    }
+
+    /**
+     * Writes the next {@code chunkSize} entities in the transaction of the caller, flushing and
+     * clearing the persistence context before it commits.
+     */
+    private int writeChunk(Iterator<Customer> entities, int chunkSize, boolean projectionEnabled) {
+        int pending = 0;
+        while (pending < chunkSize && entities.hasNext()) {
+            Customer entity = entities.next();
+            if (entity.getId() == null) {
+                this.entityManager.persist(entity);
+            } else {
+                entity = this.entityManager.merge(entity);
+            }
+            if (projectionEnabled) {
+                recordOutboxEvents(entity, this.entityManager::persist);
+            }
+            pending++;
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+        return pending;
+    }
+
+    /**
+     * One event for the customer and one for every teammate the write cascaded to, i.e. those in
+     * loaded teammate collections, so the projector never MERGEs a Person without a name.
+     */
+    private static void recordOutboxEvents(Customer customer, Consumer<GraphOutboxEvent> outbox) {
+        Set<Customer> recorded = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Customer> pending = new ArrayDeque<>();
+        pending.push(customer);
+        while (!pending.isEmpty()) {
+            Customer next = pending.pop();
+            if (!recorded.add(next)) {
+                continue;
+            }
+            // checked before the event reads the teammates, which loads them
+            boolean cascaded = Hibernate.isInitialized(next.getTeamMate());
+            outbox.accept(new GraphOutboxEvent(next));
+            if (cascaded) {
+                next.getTeamMate().forEach(pending::push);
+            }
+        }
     }
 
     @Override
     public void deleteAll() {
-        this.customerRepository.deleteAll();
+        this.graphOutboxEventRepository.deleteAll();
+        for (Customer customer : this.customerRepository.findAll()) {
+            // teammates are removed by cascade, skip those already removed
+            if (this.entityManager.contains(customer)) {
+                this.entityManager.remove(customer);
+            }
+        }
+        this.entityManager.getEntityManagerFactory().getCache().evict(Customer.class);
     }
+
+    private static final Log LOGGER = LogFactory.getLog(CustomerServiceImpl.class);
 }
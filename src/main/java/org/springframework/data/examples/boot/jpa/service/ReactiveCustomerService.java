@@ -0,0 +1,22 @@
+package org.springframework.data.examples.boot.jpa.service;
+
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking view of the {@link CustomerService} reads. JDBC has no asynchronous API, so every
+ * call is offloaded to the bounded {@code jpaReadExecutor}; nothing is fetched before subscription.
+ */
+public interface ReactiveCustomerService {
+
+    Mono<Customer> findById(Long id);
+
+    Flux<Customer> findByLastName(String lastName);
+
+    /**
+     * All customers in id order, fetched in keyset pages of {@code app.reactive.page.size};
+     * the next page is only queried once the subscriber has requested past the current one.
+     */
+    Flux<Customer> findAll();
+}
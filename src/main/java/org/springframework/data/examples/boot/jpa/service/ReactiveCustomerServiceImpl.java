@@ -0,0 +1,64 @@
+package org.springframework.data.examples.boot.jpa.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @author Thomas Woehlke
+ */
+@Service
+public class ReactiveCustomerServiceImpl implements ReactiveCustomerService {
+
+    private final CustomerService customerService;
+
+    private final Scheduler scheduler;
+
+    private final int pageSize;
+
+    @Autowired
+    public ReactiveCustomerServiceImpl(
+        CustomerService customerService,
+        @Qualifier("jpaReadExecutor") ThreadPoolTaskExecutor jpaReadExecutor,
+        MyApplicationProperties myApplicationProperties
+    ) {
+        this.customerService = customerService;
+        this.scheduler = Schedulers.fromExecutor(jpaReadExecutor);
+        this.pageSize = myApplicationProperties.getReactivePageSize();
+    }
+
+    @Override
+    public Mono<Customer> findById(Long id) {
+        return Mono.fromCallable(() -> customerService.findById(id).orElse(null))
+            .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Flux<Customer> findByLastName(String lastName) {
+        return Mono.fromCallable(() -> customerService.findByLastName(lastName))
+            .subscribeOn(scheduler)
+            .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Flux<Customer> findAll() {
+        return pageAfter(0L)
+            .expand(page -> page.size() < pageSize ? Mono.empty() : pageAfter(page.get(page.size() - 1).getId()))
+            .concatMapIterable(Function.identity(), 1);
+    }
+
+    private Mono<List<Customer>> pageAfter(Long afterId) {
+        return Mono.fromCallable(() -> customerService.findAllAfterId(afterId, pageSize))
+            .subscribeOn(scheduler);
+    }
+}
@@ -1,12 +1,10 @@
 package org.springframework.data.examples.boot.neo4j.domain;
 
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.neo4j.ogm.annotation.*;
+import org.springframework.data.examples.boot.support.EntityFormat;
 
 /**
  * @author Mark Angrish
@@ -18,9 +16,14 @@ public class Person {
     @GeneratedValue
 	private Long id;
 
+    @Index
     @Property
 	private String name;
 
+    @Index(unique = true)
+    @Property
+    private Long customerId;
+
 	@Relationship
 	private Set<Person> teamMate;
 
@@ -41,13 +44,27 @@ public class Person {
 
 	@Override
 	public String toString() {
-
-		return  "Person: " +  this.name + "'s teammates => "
-				+ Optional.ofNullable(this.teamMate).orElse(
-				Collections.emptySet()).stream().map(
-				Person::getName).collect(Collectors.toList());
+        return appendTo(EntityFormat.buffer()).toString();
 	}
 
+    /**
+     * Appends what {@link #toString()} returns, with at most {@link EntityFormat#MAX_TEAM_MATES}
+     * teammates.
+     */
+    public StringBuilder appendTo(StringBuilder buffer) {
+        buffer.append("Person: ").append(this.name).append("'s teammates => [");
+        if (this.teamMate != null) {
+            int index = 0;
+            for (Person person : this.teamMate) {
+                if (!EntityFormat.nextTeamMate(buffer, index++, this.teamMate.size())) {
+                    break;
+                }
+                buffer.append(person.name);
+            }
+        }
+        return buffer.append(']');
+    }
+
     public Long getId() {
         return id;
     }
@@ -64,6 +81,14 @@ public class Person {
         this.name = name;
     }
 
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
     public Set<Person> getTeamMate() {
         return teamMate;
     }
@@ -0,0 +1,30 @@
+package org.springframework.data.examples.boot.neo4j.domain;
+
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+/**
+ * Name-only view of a {@link Person} for listings that do not need the node or its teammates.
+ */
+@QueryResult
+public class PersonName {
+
+    private Long id;
+
+    private String name;
+
+    public PersonName() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
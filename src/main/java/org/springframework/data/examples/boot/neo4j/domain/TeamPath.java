@@ -0,0 +1,32 @@
+package org.springframework.data.examples.boot.neo4j.domain;
+
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+import java.util.List;
+
+/**
+ * The names along a path of TEAM_MATE relationships and its length.
+ */
+@QueryResult
+public class TeamPath {
+
+    private List<String> names;
+
+    private int hops;
+
+    public TeamPath() {
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public int getHops() {
+        return hops;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" -> ", names) + " (" + hops + " hops)";
+    }
+}
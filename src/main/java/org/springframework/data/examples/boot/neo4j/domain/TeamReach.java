@@ -0,0 +1,37 @@
+package org.springframework.data.examples.boot.neo4j.domain;
+
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+/**
+ * A person reached by a team traversal: id, name and the number of TEAM_MATE hops from the
+ * start, without hydrating the {@link Person} or its teammates.
+ */
+@QueryResult
+public class TeamReach {
+
+    private Long id;
+
+    private String name;
+
+    private int hops;
+
+    public TeamReach() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getHops() {
+        return hops;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + hops + " hops)";
+    }
+}
@@ -1,16 +1,112 @@
 package org.springframework.data.examples.boot.neo4j.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.neo4j.domain.PersonName;
+import org.springframework.data.examples.boot.neo4j.domain.TeamPath;
+import org.springframework.data.examples.boot.neo4j.domain.TeamReach;
 //import org.springframework.data.neo4j.repository.GraphRepository;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.neo4j.annotation.Depth;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * @author Mark Angrish
  */
 @Repository
-public interface PersonRepository extends CrudRepository<Person, Long> {
+public interface PersonRepository extends Neo4jRepository<Person, Long> {
+
+    /**
+     * Upper bound of the variable-length TEAM_MATE patterns. Cypher cannot take the bound of a
+     * pattern as a parameter and does not stop expanding at a filter on the path length, so
+     * there is one team query per depth.
+     */
+    int MAX_TEAM_DEPTH = 6;
+
+    String TEAM_WITHIN_HOPS_MATCH = "MATCH (start:Person {name: {name}}) "
+        + "MATCH path = (start)-[:TEAM_MATE*1..";
+
+    String TEAM_WITHIN_HOPS_RETURN = "]-(mate:Person) "
+        + "WHERE mate <> start "
+        + "RETURN id(mate) AS id, mate.name AS name, min(length(path)) AS hops "
+        + "ORDER BY hops, name";
 
     Person findByName(@NonNull String name);
+
+    Person findByName(@NonNull String name, @Depth int depth);
+
+    @Query("MATCH (p:Person) RETURN id(p) AS id, p.name AS name ORDER BY p.name")
+    List<PersonName> findAllNames();
+
+    @Query("MATCH (p:Person) RETURN p ORDER BY id(p)")
+    Slice<Person> findSlice(Pageable pageable);
+
+    /**
+     * Keyset pagination: the next {@code size} people ordered by id, starting after {@code afterId}.
+     */
+    @Query("MATCH (p:Person) WHERE id(p) > {afterId} RETURN p ORDER BY id(p) LIMIT {size}")
+    List<Person> findAfterId(@Param("afterId") Long afterId, @Param("size") int size);
+
+    /**
+     * Everybody within 1 to {@link #MAX_TEAM_DEPTH} TEAM_MATE hops of {@code name}, in either
+     * direction, with the length of the shortest route found.
+     */
+    default List<TeamReach> findTeamWithinHops(String name, int maxDepth) {
+        switch (maxDepth) {
+            case 1:
+                return findTeamWithin1Hop(name);
+            case 2:
+                return findTeamWithin2Hops(name);
+            case 3:
+                return findTeamWithin3Hops(name);
+            case 4:
+                return findTeamWithin4Hops(name);
+            case 5:
+                return findTeamWithin5Hops(name);
+            case 6:
+                return findTeamWithin6Hops(name);
+            default:
+                throw new IllegalArgumentException(
+                    "maxDepth must be between 1 and " + MAX_TEAM_DEPTH + " but was " + maxDepth
+                );
+        }
+    }
+
+    @Query(TEAM_WITHIN_HOPS_MATCH + "1" + TEAM_WITHIN_HOPS_RETURN)
+    List<TeamReach> findTeamWithin1Hop(@Param("name") String name);
+
+    @Query(TEAM_WITHIN_HOPS_MATCH + "2" + TEAM_WITHIN_HOPS_RETURN)
+    List<TeamReach> findTeamWithin2Hops(@Param("name") String name);
+
+    @Query(TEAM_WITHIN_HOPS_MATCH + "3" + TEAM_WITHIN_HOPS_RETURN)
+    List<TeamReach> findTeamWithin3Hops(@Param("name") String name);
+
+    @Query(TEAM_WITHIN_HOPS_MATCH + "4" + TEAM_WITHIN_HOPS_RETURN)
+    List<TeamReach> findTeamWithin4Hops(@Param("name") String name);
+
+    @Query(TEAM_WITHIN_HOPS_MATCH + "5" + TEAM_WITHIN_HOPS_RETURN)
+    List<TeamReach> findTeamWithin5Hops(@Param("name") String name);
+
+    @Query(TEAM_WITHIN_HOPS_MATCH + "6" + TEAM_WITHIN_HOPS_RETURN)
+    List<TeamReach> findTeamWithin6Hops(@Param("name") String name);
+
+    @Query("MATCH (a:Person {name: {from}}), (b:Person {name: {to}}) "
+        + "MATCH path = shortestPath((a)-[:TEAM_MATE*.." + MAX_TEAM_DEPTH + "]-(b)) "
+        + "RETURN [n IN nodes(path) | n.name] AS names, length(path) AS hops")
+    TeamPath findShortestPath(@Param("from") String from, @Param("to") String to);
+
+    /**
+     * People who are direct teammates of both {@code first} and {@code second}.
+     */
+    @Query("MATCH (a:Person {name: {first}})-[:TEAM_MATE]-(mate:Person)-[:TEAM_MATE]-(b:Person {name: {second}}) "
+        + "WHERE a <> b "
+        + "RETURN DISTINCT id(mate) AS id, mate.name AS name, 1 AS hops "
+        + "ORDER BY name")
+    List<TeamReach> findCommonTeamMates(@Param("first") String first, @Param("second") String second);
 }
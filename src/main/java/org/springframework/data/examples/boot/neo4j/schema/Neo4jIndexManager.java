@@ -0,0 +1,201 @@
+package org.springframework.data.examples.boot.neo4j.schema;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the {@code @Index} properties of the mapped {@code @NodeEntity} classes with the
+ * indexes and unique constraints of the live database and then, depending on the
+ * {@link Neo4jIndexMode}, creates the missing ones, fails on them or dumps the Cypher to a file.
+ * <p>
+ * Each profile configuration creates one of these with {@code initMethod = "run"}, so the schema
+ * is in place before the first repository call.
+ */
+public class Neo4jIndexManager {
+
+    private static final Pattern INDEX_DESCRIPTION =
+        Pattern.compile("INDEX ON :`?([^`(]+)`?\\(`?([^`)]+)`?\\)");
+
+    private static final Pattern CONSTRAINT_DESCRIPTION =
+        Pattern.compile("CONSTRAINT ON \\( *`?\\w+`?:`?([^` )]+)`? *\\) ASSERT `?\\w+`?\\.`?([^` ]+)`? IS UNIQUE");
+
+    private final SessionFactory sessionFactory;
+
+    private final Neo4jIndexMode mode;
+
+    private final Path dumpFile;
+
+    public Neo4jIndexManager(SessionFactory sessionFactory, Neo4jIndexMode mode, String dumpDir, String dumpFilename) {
+        this.sessionFactory = sessionFactory;
+        this.mode = mode;
+        this.dumpFile = Paths.get(dumpDir, dumpFilename);
+    }
+
+    public void run() {
+        LOGGER.info("Neo4j index management mode: " + mode);
+        if (mode == Neo4jIndexMode.NONE) {
+            return;
+        }
+        Set<IndexDefinition> declared = declaredIndexes();
+        if (mode == Neo4jIndexMode.DUMP) {
+            dump(declared);
+            return;
+        }
+        Session session = sessionFactory.openSession();
+        Set<IndexDefinition> existing = existingIndexes(session);
+        List<IndexDefinition> missing = new ArrayList<>();
+        for (IndexDefinition definition : declared) {
+            if (existing.contains(definition)) {
+                LOGGER.debug("Neo4j schema ok: " + definition.toCypher());
+            } else {
+                missing.add(definition);
+            }
+        }
+        if (missing.isEmpty()) {
+            LOGGER.info("Neo4j schema has all " + declared.size() + " declared indexes");
+            return;
+        }
+        if (mode == Neo4jIndexMode.VALIDATE) {
+            throw new IllegalStateException("Neo4j schema is missing declared indexes: " + missing
+                + "; run the scripts in db/neo4j or start once with spring.data.neo4j.indexes.auto.mode=update");
+        }
+        for (IndexDefinition definition : missing) {
+            LOGGER.info("Neo4j schema create: " + definition.toCypher());
+            session.query(definition.toCypher(), Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Every {@code @Index} field of every node entity. An {@code @Id @GeneratedValue} field maps to
+     * the internal node id, not to a property, and is skipped. A plain index and a unique constraint
+     * on the same property are different definitions, the constraint already brings its own index.
+     */
+    public Set<IndexDefinition> declaredIndexes() {
+        Set<IndexDefinition> declared = new LinkedHashSet<>();
+        for (ClassInfo classInfo : sessionFactory.metaData().persistentEntities()) {
+            if (classInfo.isRelationshipEntity() || classInfo.isInterface() || !classInfo.containsIndexes()) {
+                continue;
+            }
+            FieldInfo nativeId = classInfo.identityFieldOrNull();
+            for (FieldInfo fieldInfo : classInfo.getIndexFields()) {
+                if (fieldInfo == nativeId) {
+                    continue;
+                }
+                declared.add(new IndexDefinition(classInfo.neo4jName(), fieldInfo.property(), fieldInfo.isConstraint()));
+            }
+        }
+        return declared;
+    }
+
+    private Set<IndexDefinition> existingIndexes(Session session) {
+        Set<IndexDefinition> existing = new LinkedHashSet<>();
+        for (Map<String, Object> row : session.query("CALL db.indexes()", Collections.emptyMap()).queryResults()) {
+            Matcher matcher = INDEX_DESCRIPTION.matcher(String.valueOf(row.get("description")));
+            if (matcher.find() && !"node_unique_property".equals(row.get("type"))) {
+                existing.add(new IndexDefinition(matcher.group(1), matcher.group(2), false));
+            }
+        }
+        for (Map<String, Object> row : session.query("CALL db.constraints()", Collections.emptyMap()).queryResults()) {
+            Matcher matcher = CONSTRAINT_DESCRIPTION.matcher(String.valueOf(row.get("description")));
+            if (matcher.find()) {
+                existing.add(new IndexDefinition(matcher.group(1), matcher.group(2), true));
+            }
+        }
+        return existing;
+    }
+
+    private void dump(Set<IndexDefinition> declared) {
+        List<String> lines = new ArrayList<>();
+        for (IndexDefinition definition : declared) {
+            lines.add(definition.toCypher() + ";");
+        }
+        try {
+            if (dumpFile.getParent() != null) {
+                Files.createDirectories(dumpFile.getParent());
+            }
+            Files.write(dumpFile, lines, StandardCharsets.UTF_8);
+            LOGGER.info("Neo4j schema dumped " + lines.size() + " statements to " + dumpFile.toAbsolutePath());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write Neo4j index dump to " + dumpFile, e);
+        }
+    }
+
+    /**
+     * One label/property pair, either indexed or backed by a unique constraint.
+     */
+    public static final class IndexDefinition {
+
+        private final String label;
+
+        private final String property;
+
+        private final boolean unique;
+
+        public IndexDefinition(String label, String property, boolean unique) {
+            this.label = label;
+            this.property = property;
+            this.unique = unique;
+        }
+
+        public String toCypher() {
+            if (unique) {
+                return "CREATE CONSTRAINT ON (n:`" + label + "`) ASSERT n.`" + property + "` IS UNIQUE";
+            }
+            return "CREATE INDEX ON :`" + label + "`(`" + property + "`)";
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public boolean isUnique() {
+            return unique;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IndexDefinition)) {
+                return false;
+            }
+            IndexDefinition that = (IndexDefinition) o;
+            return unique == that.unique && label.equals(that.label) && property.equals(that.property);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * label.hashCode() + property.hashCode()) + (unique ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return (unique ? "UNIQUE " : "INDEX ") + label + "." + property;
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(Neo4jIndexManager.class);
+}
@@ -0,0 +1,26 @@
+package org.springframework.data.examples.boot.neo4j.schema;
+
+/**
+ * What {@link Neo4jIndexManager} does at startup with the indexes declared on the node entities.
+ */
+public enum Neo4jIndexMode {
+
+    /** Leave the schema alone. */
+    NONE,
+
+    /** Fail startup if a declared index or constraint is missing. */
+    VALIDATE,
+
+    /** Create declared indexes and constraints that are missing, keep everything else. */
+    UPDATE,
+
+    /** Write the Cypher for all declared indexes and constraints to a file, do not touch the database. */
+    DUMP;
+
+    public static Neo4jIndexMode fromProperty(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return NONE;
+        }
+        return Neo4jIndexMode.valueOf(value.trim().toUpperCase());
+    }
+}
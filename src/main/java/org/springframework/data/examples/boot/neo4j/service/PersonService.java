@@ -1,21 +1,118 @@
 package org.springframework.data.examples.boot.neo4j.service;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.neo4j.domain.PersonName;
+import org.springframework.data.examples.boot.neo4j.domain.TeamPath;
+import org.springframework.data.examples.boot.neo4j.domain.TeamReach;
+import org.springframework.data.examples.boot.support.BulkIngestReport;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * @author Thomas Woehlke
  */
 public interface PersonService {
 
+    /** Load depth for the node properties only. */
+    int DEPTH_PROPERTIES = 0;
+
+    /** Load depth for the node plus its direct teammates. */
+    int DEPTH_TEAM_MATES = 1;
+
+    /** Load depth for everything reachable, use with care on big teams. */
+    int DEPTH_FULL = -1;
+
+    /**
+     * Load depth the methods without a depth argument use, {@code app.person.load.depth}.
+     */
+    int getDefaultDepth();
+
+    /**
+     * Read-through: served from a bounded, expiring in-process cache; concurrent misses for
+     * the same name share a single Neo4j lookup. The cached instance is shared with every caller;
+     * once it carries another name it is no longer returned for this one.
+     */
     Person findByName(String name);
 
+    /**
+     * Bypasses the cache unless {@code depth} is the {@link #getDefaultDepth() default depth}.
+     */
+    Person findByName(String name, int depth);
+
+    /**
+     * Everybody within {@code maxDepth} TEAM_MATE hops of {@code name}, nearest first.
+     * {@code maxDepth} must be between 1 and {@link
+     * org.springframework.data.examples.boot.neo4j.repository.PersonRepository#MAX_TEAM_DEPTH}.
+     */
+    List<TeamReach> findTeamWithinHops(String name, int maxDepth);
+
+    /**
+     * The shortest TEAM_MATE path between two people, empty if they are not connected.
+     */
+    Optional<TeamPath> findShortestPath(String from, String to);
+
+    List<TeamReach> findCommonTeamMates(String first, String second);
+
     Iterable<Person> findAll();
 
+    Iterable<Person> findAll(int depth);
+
+    Page<Person> findAll(Pageable pageable);
+
+    Page<Person> findAll(Pageable pageable, int depth);
+
+    /**
+     * Ids and names of all people ordered by name, without loading any node.
+     */
+    List<PersonName> findAllNames();
+
+    /**
+     * Like {@link #findAll(Pageable)} but without the count query.
+     */
+    Slice<Person> findSlice(Pageable pageable);
+
+    /**
+     * Keyset pagination: the next {@code size} people ordered by id after {@code afterId};
+     * pass {@code -1} for the first page and the last id of the previous page afterwards.
+     */
+    List<Person> findAllAfterId(Long afterId, int size);
+
+    /**
+     * Read-through like {@link #findByName(String)}, keyed by id.
+     */
     Optional<Person> findById(Long id);
 
+    /**
+     * Bypasses the cache unless {@code depth} is the {@link #getDefaultDepth() default depth}.
+     */
+    Optional<Person> findById(Long id, int depth);
+
+    /**
+     * Saves the entity and writes it through to the lookup caches.
+     */
     Person save(Person entity);
 
+    /**
+     * Writes all entities in chunks of {@code app.bulk.chunk.size} using one UNWIND statement
+     * per chunk for the nodes and one for the teamMate relationships. Relationships are only
+     * written to teammates that already have an id, i.e. were written in this or an earlier chunk.
+     */
+    BulkIngestReport saveAll(Iterator<Person> entities);
+
+    BulkIngestReport saveAll(Stream<Person> entities);
+
+    /**
+     * Drops cached lookups for people whose node was written outside of this service, by node id
+     * and by name; the name a cached node had before is dropped as well.
+     */
+    void evict(Collection<Long> ids, Collection<String> names);
+
     void deleteAll();
 }
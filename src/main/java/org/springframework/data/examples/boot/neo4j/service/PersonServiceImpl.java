@@ -1,12 +1,43 @@
 package org.springframework.data.examples.boot.neo4j.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
 import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.neo4j.domain.PersonName;
+import org.springframework.data.examples.boot.neo4j.domain.TeamPath;
+import org.springframework.data.examples.boot.neo4j.domain.TeamReach;
 import org.springframework.data.examples.boot.neo4j.repository.PersonRepository;
+import org.springframework.data.examples.boot.support.BulkIngestReport;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * @author Thomas Woehlke
@@ -15,35 +46,325 @@ import java.util.Optional;
 @Transactional("neo4jTransactionManager")
 public class PersonServiceImpl implements PersonService {
 
+    private static final String CYPHER_CREATE_PERSONS =
+        "UNWIND {rows} AS row CREATE (p:Person {name: row.name}) RETURN row.idx AS idx, id(p) AS id";
+
+    private static final String CYPHER_UPDATE_PERSONS =
+        "UNWIND {rows} AS row MATCH (p:Person) WHERE id(p) = row.id SET p.name = row.name";
+
+    private static final String CYPHER_DELETE_STALE_TEAM_MATES =
+        "UNWIND {rows} AS row MATCH (p:Person)-[r:TEAM_MATE]->(m:Person) "
+            + "WHERE id(p) = row.id AND NOT id(m) IN row.teamMateIds DELETE r";
+
+    private static final String CYPHER_MERGE_TEAM_MATES =
+        "UNWIND {rows} AS row MATCH (a:Person) WHERE id(a) = row.from "
+            + "MATCH (b:Person) WHERE id(b) = row.to MERGE (a)-[:TEAM_MATE]->(b)";
+
     private final PersonRepository personRepository;
 
+    private final MyApplicationProperties myApplicationProperties;
+
+    private final Session session;
+
+    private final Cache<String, Person> personByName;
+
+    private final Cache<Long, Person> personById;
+
+    private final int defaultDepth;
+
     @Autowired
-    public PersonServiceImpl(PersonRepository personRepository) {
+    public PersonServiceImpl(
+        PersonRepository personRepository,
+        MyApplicationProperties myApplicationProperties,
+        SessionFactory sessionFactory,
+        MeterRegistry meterRegistry
+    ) {
         this.personRepository = personRepository;
+        this.myApplicationProperties = myApplicationProperties;
+        this.session = SharedSessionCreator.createSharedSession(sessionFactory);
+        this.personByName = lookupCache(meterRegistry, "person.byName");
+        this.personById = lookupCache(meterRegistry, "person.byId");
+        this.defaultDepth = myApplicationProperties.getPersonLoadDepth();
+    }
+
+    private <K> Cache<K, Person> lookupCache(MeterRegistry meterRegistry, String cacheName) {
+        Cache<K, Person> cache = Caffeine.newBuilder()
+            .maximumSize(this.myApplicationProperties.getPersonCacheMaximumSize())
+            .expireAfterWrite(this.myApplicationProperties.getPersonCacheTtlSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .tag("cache", cacheName)
+            .description("Share of lookups answered from the cache")
+            .register(meterRegistry);
+        return cache;
+    }
+
+    @Override
+    public int getDefaultDepth() {
+        return defaultDepth;
     }
 
     @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
     public Person findByName(String name) {
-        return personRepository.findByName(name);
+        Person cached = personByName.getIfPresent(name);
+        if (cached != null && !name.equals(cached.getName())) {
+            // the cached instance is shared with the callers, one of them renamed it
+            personByName.asMap().remove(name, cached);
+        }
+        // Cache.get runs the loader once per key; concurrent callers wait for that result
+        return personByName.get(name, key -> personRepository.findByName(key, defaultDepth));
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public Person findByName(String name, int depth) {
+        if (depth == defaultDepth) {
+            return findByName(name);
+        }
+        return personRepository.findByName(name, depth);
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public List<TeamReach> findTeamWithinHops(String name, int maxDepth) {
+        if (maxDepth < 1 || maxDepth > PersonRepository.MAX_TEAM_DEPTH) {
+            throw new IllegalArgumentException(
+                "maxDepth must be between 1 and " + PersonRepository.MAX_TEAM_DEPTH + " but was " + maxDepth
+            );
+        }
+        return personRepository.findTeamWithinHops(name, maxDepth);
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public Optional<TeamPath> findShortestPath(String from, String to) {
+        return Optional.ofNullable(personRepository.findShortestPath(from, to));
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public List<TeamReach> findCommonTeamMates(String first, String second) {
+        return personRepository.findCommonTeamMates(first, second);
     }
 
     @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
     public Iterable<Person> findAll() {
-        return personRepository.findAll();
+        return personRepository.findAll(defaultDepth);
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public Iterable<Person> findAll(int depth) {
+        return personRepository.findAll(depth);
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public Page<Person> findAll(Pageable pageable) {
+        return personRepository.findAll(pageable, defaultDepth);
     }
 
     @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public Page<Person> findAll(Pageable pageable, int depth) {
+        return personRepository.findAll(pageable, depth);
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public List<PersonName> findAllNames() {
+        return personRepository.findAllNames();
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public Slice<Person> findSlice(Pageable pageable) {
+        return personRepository.findSlice(pageable);
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public List<Person> findAllAfterId(Long afterId, int size) {
+        return personRepository.findAfterId(afterId, size);
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
     public Optional<Person> findById(Long id) {
-        return personRepository.findById(id);
+        return Optional.ofNullable(personById.get(id, key -> personRepository.findById(key, defaultDepth).orElse(null)));
+    }
+
+    @Override
+    @Transactional(value = "neo4jTransactionManager", readOnly = true)
+    public Optional<Person> findById(Long id, int depth) {
+        if (depth == defaultDepth) {
+            return findById(id);
+        }
+        return personRepository.findById(id, depth);
     }
 
     @Override
     public Person save(Person entity) {
-        return personRepository.save(entity);
+        Person saved = personRepository.save(entity);
+        afterCommit(() -> {
+            // when previous is saved itself its old name is already gone, findByName drops that key
+            Person previous = personById.getIfPresent(saved.getId());
+            if (previous != null && previous.getName() != null && !previous.getName().equals(saved.getName())) {
+                personByName.invalidate(previous.getName());
+            }
+            personById.put(saved.getId(), saved);
+            if (saved.getName() != null) {
+                personByName.put(saved.getName(), saved);
+            }
+        });
+        return saved;
+    }
+
+    @Override
+    public BulkIngestReport saveAll(Iterator<Person> entities) {
+        int chunkSize = this.myApplicationProperties.getBulkChunkSize();
+        BulkIngestReport report = new BulkIngestReport("neo4j");
+        List<Person> chunk = new ArrayList<>(chunkSize);
+        while (entities.hasNext()) {
+            chunk.add(entities.next());
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk);
+                report.chunkWritten(chunk.size());
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk);
+            report.chunkWritten(chunk.size());
+        }
+        report.finish();
+        LOGGER.info(report.toString());
+        return report;
+    }
+
+    @Override
+    public BulkIngestReport saveAll(Stream<Person> entities) {
+        try (Stream<Person> stream = entities) {
+            return saveAll(stream.iterator());
+        }
+    }
+
+    private void writeChunk(List<Person> chunk) {
+        List<Map<String, Object>> created = new ArrayList<>();
+        List<Map<String, Object>> updated = new ArrayList<>();
+        Set<Integer> updatedIdx = new HashSet<>();
+        for (int idx = 0; idx < chunk.size(); idx++) {
+            Person person = chunk.get(idx);
+            Map<String, Object> row = new HashMap<>();
+            row.put("name", person.getName());
+            if (person.getId() == null) {
+                row.put("idx", idx);
+                created.add(row);
+            } else {
+                row.put("id", person.getId());
+                updated.add(row);
+                updatedIdx.add(idx);
+            }
+        }
+        if (!created.isEmpty()) {
+            Iterable<Map<String, Object>> ids = this.session.query(
+                CYPHER_CREATE_PERSONS, Collections.singletonMap("rows", created)
+            ).queryResults();
+            for (Map<String, Object> result : ids) {
+                int idx = ((Number) result.get("idx")).intValue();
+                chunk.get(idx).setId(((Number) result.get("id")).longValue());
+            }
+        }
+        if (!updated.isEmpty()) {
+            this.session.query(CYPHER_UPDATE_PERSONS, Collections.singletonMap("rows", updated));
+        }
+        // an updated person keeps only the team mates it lists, as with personRepository.save;
+        // a null team leaves the existing relationships alone
+        List<Map<String, Object>> teams = new ArrayList<>();
+        List<Map<String, Object>> teamMates = new ArrayList<>();
+        for (int idx = 0; idx < chunk.size(); idx++) {
+            Person person = chunk.get(idx);
+            if (person.getTeamMate() == null) {
+                continue;
+            }
+            List<Long> teamMateIds = new ArrayList<>();
+            for (Person teamMate : person.getTeamMate()) {
+                if (teamMate.getId() != null) {
+                    teamMateIds.add(teamMate.getId());
+                    Map<String, Object> row = new HashMap<>();
+                    row.put("from", person.getId());
+                    row.put("to", teamMate.getId());
+                    teamMates.add(row);
+                }
+            }
+            if (updatedIdx.contains(idx)) {
+                Map<String, Object> row = new HashMap<>();
+                row.put("id", person.getId());
+                row.put("teamMateIds", teamMateIds);
+                teams.add(row);
+            }
+        }
+        if (!teams.isEmpty()) {
+            this.session.query(CYPHER_DELETE_STALE_TEAM_MATES, Collections.singletonMap("rows", teams));
+        }
+        if (!teamMates.isEmpty()) {
+            this.session.query(CYPHER_MERGE_TEAM_MATES, Collections.singletonMap("rows", teamMates));
+        }
+        // saveAll reuses the chunk list
+        List<Person> written = new ArrayList<>(chunk);
+        afterCommit(() -> {
+            for (Person person : written) {
+                evict(person.getId());
+                if (person.getName() != null) {
+                    personByName.invalidate(person.getName());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void evict(Collection<Long> ids, Collection<String> names) {
+        ids.forEach(this::evict);
+        personByName.invalidateAll(names);
+    }
+
+    private void evict(Long id) {
+        Person previous = personById.getIfPresent(id);
+        if (previous != null && previous.getName() != null) {
+            personByName.invalidate(previous.getName());
+        }
+        personById.invalidate(id);
     }
 
     @Override
     public void deleteAll() {
         personRepository.deleteAll();
+        afterCommit(() -> {
+            personByName.invalidateAll();
+            personById.invalidateAll();
+        });
     }
+
+    /**
+     * Runs a cache update once the Neo4j transaction has committed, so a rollback leaves the
+     * caches with what is in the store; runs it right away outside of a transaction.
+     */
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(PersonServiceImpl.class);
 }
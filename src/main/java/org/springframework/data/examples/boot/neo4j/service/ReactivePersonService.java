@@ -0,0 +1,23 @@
+package org.springframework.data.examples.boot.neo4j.service;
+
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking view of the {@link PersonService} reads, offloaded to the bounded
+ * {@code neo4jReadExecutor} so they can run next to the JPA lookups of the same request.
+ * Goes through {@link PersonService}, so the person cache and the load depth still apply.
+ */
+public interface ReactivePersonService {
+
+    Mono<Person> findById(Long id);
+
+    Mono<Person> findByName(String name);
+
+    /**
+     * All people in id order, fetched in keyset pages of {@code app.reactive.page.size};
+     * the next page is only queried once the subscriber has requested past the current one.
+     */
+    Flux<Person> findAll();
+}
@@ -0,0 +1,63 @@
+package org.springframework.data.examples.boot.neo4j.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @author Thomas Woehlke
+ */
+@Service
+public class ReactivePersonServiceImpl implements ReactivePersonService {
+
+    private final PersonService personService;
+
+    private final Scheduler scheduler;
+
+    private final int pageSize;
+
+    @Autowired
+    public ReactivePersonServiceImpl(
+        PersonService personService,
+        @Qualifier("neo4jReadExecutor") ThreadPoolTaskExecutor neo4jReadExecutor,
+        MyApplicationProperties myApplicationProperties
+    ) {
+        this.personService = personService;
+        this.scheduler = Schedulers.fromExecutor(neo4jReadExecutor);
+        this.pageSize = myApplicationProperties.getReactivePageSize();
+    }
+
+    @Override
+    public Mono<Person> findById(Long id) {
+        return Mono.fromCallable(() -> personService.findById(id).orElse(null))
+            .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Person> findByName(String name) {
+        return Mono.fromCallable(() -> personService.findByName(name))
+            .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Flux<Person> findAll() {
+        return pageAfter(-1L)
+            .expand(page -> page.size() < pageSize ? Mono.empty() : pageAfter(page.get(page.size() - 1).getId()))
+            .concatMapIterable(Function.identity(), 1);
+    }
+
+    private Mono<List<Person>> pageAfter(Long afterId) {
+        return Mono.fromCallable(() -> personService.findAllAfterId(afterId, pageSize))
+            .subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,14 @@
+package org.springframework.data.examples.boot.process;
+
+public interface LoadGeneratorService {
+
+    /**
+     * Seeds {@code app.load.dataset.size} customers and people, then runs the {@code app.load.mix}
+     * against {@code CustomerService} and {@code PersonService} for {@code app.load.duration}
+     * seconds after {@code app.load.warmup} seconds of warm-up, or until the context is closed if
+     * the duration is 0, and logs the latency percentiles and throughput per operation.
+     * Seeding deletes all customers and people first, so it refuses to run with the
+     * {@code production} profile.
+     */
+    void run();
+}
@@ -0,0 +1,406 @@
+package org.springframework.data.examples.boot.process;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.service.CustomerService;
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.neo4j.domain.PersonName;
+import org.springframework.data.examples.boot.neo4j.service.PersonService;
+import org.springframework.data.examples.boot.projection.GraphProjector;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+/**
+ * Runs the {@code app.load.*} workload with {@code app.load.concurrency} worker threads.
+ * <p>
+ * With a target {@code app.load.rate} the workers are paced open loop: every worker has a
+ * schedule of intended start times and each latency is measured from the intended start, so a
+ * backlog shows up as latency instead of quietly lowering the rate (coordinated omission). With a
+ * rate of 0 every worker runs its next operation as soon as the last one returned, which finds
+ * the saturation throughput. Latencies go to one HdrHistogram {@link Recorder} per operation;
+ * every {@code app.load.report.interval} seconds the interval is logged and, if
+ * {@code app.load.histogram.log} is set, appended to that HdrHistogram log, tagged with the
+ * operation, for plotting and comparing runs.
+ */
+@Service
+public class LoadGeneratorServiceImpl implements LoadGeneratorService, DisposableBean {
+
+    private static final String PRODUCTION_PROFILE = "production";
+
+    private static final int LAST_NAMES = 100;
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final CustomerService customerService;
+
+    private final PersonService personService;
+
+    private final GraphProjector graphProjector;
+
+    private final MyApplicationProperties myApplicationProperties;
+
+    private final Environment environment;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final List<Thread> workers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean stopped;
+
+    private long[] customerIds;
+
+    private long[] personIds;
+
+    private String[] personNames;
+
+    @Autowired
+    public LoadGeneratorServiceImpl(
+        CustomerService customerService,
+        PersonService personService,
+        GraphProjector graphProjector,
+        MyApplicationProperties myApplicationProperties,
+        Environment environment
+    ) {
+        this.customerService = customerService;
+        this.personService = personService;
+        this.graphProjector = graphProjector;
+        this.myApplicationProperties = myApplicationProperties;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run() {
+        if (environment.acceptsProfiles(PRODUCTION_PROFILE)) {
+            throw new IllegalStateException("app.load deletes all customers and people before seeding, "
+                + "it does not run with the " + PRODUCTION_PROFILE + " profile");
+        }
+        Map<LoadOperation, Integer> mix = LoadOperation.parseMix(myApplicationProperties.getLoadMix());
+        LoadOperation[] table = weighted(mix);
+        int concurrency = myApplicationProperties.getLoadConcurrency();
+        int rate = myApplicationProperties.getLoadRate();
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("app.load.concurrency must be at least 1");
+        }
+        seed(myApplicationProperties.getLoadDatasetSize());
+
+        Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Histogram> intervals = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Histogram> totals = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : mix.keySet()) {
+            recorders.put(operation, new Recorder(SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+            totals.put(operation, new Histogram(SIGNIFICANT_DIGITS));
+        }
+        HistogramLogWriter histogramLog = openHistogramLog(myApplicationProperties.getLoadHistogramLog());
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(myApplicationProperties.getLoadWarmup());
+        long duration = TimeUnit.SECONDS.toNanos(myApplicationProperties.getLoadDuration());
+        long end = duration > 0 ? measureFrom + duration : Long.MAX_VALUE;
+        long reportInterval = TimeUnit.SECONDS.toNanos(Math.max(1, myApplicationProperties.getLoadReportInterval()));
+        long period = rate > 0 ? TimeUnit.SECONDS.toNanos(concurrency) / rate : 0;
+        LOGGER.info("Load: " + (rate > 0 ? rate + " ops/s" : "unthrottled") + ", " + concurrency + " workers, mix " + mix
+            + ", " + myApplicationProperties.getLoadWarmup() + " s warm-up, "
+            + (duration > 0 ? myApplicationProperties.getLoadDuration() + " s" : "until shutdown"));
+
+        stopped = false;
+        for (int i = 0; i < concurrency; i++) {
+            long firstStart = start + period * i / concurrency;
+            Thread worker = new Thread(() -> work(table, recorders, errors, firstStart, period, end), "load-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        boolean measuring = measureFrom <= start;
+        long intervalStart = start;
+        while (!stopped && System.nanoTime() < end) {
+            long next = Math.min(end, measuring ? intervalStart + reportInterval : measureFrom);
+            sleepUntil(next);
+            long now = System.nanoTime();
+            takeIntervals(recorders, intervals);
+            if (!measuring) {
+                measuring = now >= measureFrom;
+                if (measuring) {
+                    LOGGER.info("Load: warm-up done, measuring");
+                }
+            } else {
+                record(intervals, totals, histogramLog);
+                logInterval(intervals, (now - measureFrom) / 1_000_000_000L, (now - intervalStart) / 1e9);
+            }
+            intervalStart = now;
+        }
+        stopped = true;
+        joinWorkers();
+        long stop = System.nanoTime();
+        takeIntervals(recorders, intervals);
+        if (!measuring) {
+            LOGGER.info("Load: stopped during warm-up, nothing measured");
+            drainProjection();
+            return;
+        }
+        record(intervals, totals, histogramLog);
+        if (histogramLog != null) {
+            histogramLog.close();
+        }
+        logReport(totals, errors, (stop - measureFrom) / 1e9, rate, concurrency);
+        drainProjection();
+    }
+
+    /**
+     * Stops the workers when the context closes while a run without a duration is going on.
+     */
+    @Override
+    public void destroy() {
+        stopped = true;
+        joinWorkers();
+    }
+
+    /**
+     * Projects the outbox events the customer saves left behind before the context closes;
+     * closing it cancels a running poll with an interrupt, which aborts its Neo4j write.
+     */
+    private void drainProjection() {
+        if (myApplicationProperties.getProjectionEnabled()) {
+            long start = System.currentTimeMillis();
+            long projected = graphProjector.drain();
+            LOGGER.info("Load: projected " + projected + " outbox events left by the run in "
+                + (System.currentTimeMillis() - start) + " ms");
+        }
+    }
+
+    private void seed(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("app.load.dataset.size must be at least 1");
+        }
+        LOGGER.info("Load: seeding " + size + " customers and people");
+        personService.deleteAll();
+        customerService.deleteAll();
+        customerService.saveAll(LongStream.range(0, size).mapToObj(i -> new Customer("Load " + i, lastName((int) (i % LAST_NAMES)))));
+        personService.saveAll(LongStream.range(0, size).mapToObj(i -> new Person(personName(i))));
+        List<Long> ids = new ArrayList<>(size);
+        customerService.forEach(customer -> ids.add(customer.getId()));
+        customerIds = ids.stream().mapToLong(Long::longValue).toArray();
+        List<PersonName> names = personService.findAllNames();
+        personIds = names.stream().mapToLong(PersonName::getId).toArray();
+        personNames = names.stream().map(PersonName::getName).toArray(String[]::new);
+        sequence.set(size);
+    }
+
+    private void work(
+        LoadOperation[] table,
+        Map<LoadOperation, Recorder> recorders,
+        Map<LoadOperation, LongAdder> errors,
+        long firstStart,
+        long period,
+        long end
+    ) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intended = firstStart;
+        while (!stopped) {
+            if (period > 0) {
+                sleepUntil(intended);
+            }
+            long begin = System.nanoTime();
+            if (begin >= end || stopped) {
+                return;
+            }
+            if (period > 0) {
+                begin = intended;
+                intended += period;
+            }
+            LoadOperation operation = table[random.nextInt(table.length)];
+            try {
+                execute(operation, random);
+            } catch (RuntimeException e) {
+                if (errors.get(operation).sum() == 0) {
+                    LOGGER.warn("Load: first " + operation.property() + " error", e);
+                }
+                errors.get(operation).increment();
+            }
+            recorders.get(operation).recordValue(System.nanoTime() - begin);
+        }
+    }
+
+    private void execute(LoadOperation operation, ThreadLocalRandom random) {
+        switch (operation) {
+            case CUSTOMER_FIND_BY_ID:
+                customerService.findById(customerIds[random.nextInt(customerIds.length)]);
+                break;
+            case CUSTOMER_FIND_BY_LAST_NAME:
+                customerService.findByLastName(lastName(random.nextInt(LAST_NAMES)));
+                break;
+            case CUSTOMER_SAVE:
+                customerService.save(new Customer("Load " + sequence.incrementAndGet(), lastName(random.nextInt(LAST_NAMES))));
+                break;
+            case PERSON_FIND_BY_NAME:
+                personService.findByName(personNames[random.nextInt(personNames.length)]);
+                break;
+            case PERSON_FIND_BY_ID:
+                personService.findById(personIds[random.nextInt(personIds.length)]);
+                break;
+            case PERSON_SAVE:
+                personService.save(new Person(personName(sequence.incrementAndGet())));
+                break;
+            default:
+                throw new IllegalStateException("Unknown load operation " + operation);
+        }
+    }
+
+    private void takeIntervals(Map<LoadOperation, Recorder> recorders, Map<LoadOperation, Histogram> intervals) {
+        for (Map.Entry<LoadOperation, Recorder> entry : recorders.entrySet()) {
+            Histogram interval = entry.getValue().getIntervalHistogram(intervals.get(entry.getKey()));
+            interval.setTag(entry.getKey().property());
+            intervals.put(entry.getKey(), interval);
+        }
+    }
+
+    private static void record(
+        Map<LoadOperation, Histogram> intervals,
+        Map<LoadOperation, Histogram> totals,
+        HistogramLogWriter histogramLog
+    ) {
+        for (Map.Entry<LoadOperation, Histogram> entry : intervals.entrySet()) {
+            totals.get(entry.getKey()).add(entry.getValue());
+            if (histogramLog != null) {
+                histogramLog.outputIntervalHistogram(entry.getValue());
+            }
+        }
+    }
+
+    private static void logInterval(Map<LoadOperation, Histogram> intervals, long elapsedSeconds, double intervalSeconds) {
+        LOGGER.info("Load +" + elapsedSeconds + " s:");
+        for (Map.Entry<LoadOperation, Histogram> entry : intervals.entrySet()) {
+            Histogram histogram = entry.getValue();
+            LOGGER.info(String.format("  %-28s %8d ops %9.1f/s  p50 %8.3f  p99 %8.3f  max %8.3f ms",
+                entry.getKey().property(),
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / intervalSeconds,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI));
+        }
+    }
+
+    private static void logReport(
+        Map<LoadOperation, Histogram> totals,
+        Map<LoadOperation, LongAdder> errors,
+        double seconds,
+        int rate,
+        int concurrency
+    ) {
+        Histogram all = new Histogram(SIGNIFICANT_DIGITS);
+        long allErrors = 0;
+        for (Map.Entry<LoadOperation, Histogram> entry : totals.entrySet()) {
+            all.add(entry.getValue());
+            allErrors += errors.get(entry.getKey()).sum();
+        }
+        LOGGER.info(String.format("Load report: %.1f s measured, target %s, %d workers, %.1f ops/s achieved",
+            seconds, rate > 0 ? rate + " ops/s" : "unthrottled", concurrency, all.getTotalCount() / seconds));
+        LOGGER.info(String.format("  %-28s %9s %7s %9s %9s %9s %9s %9s %9s",
+            "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map.Entry<LoadOperation, Histogram> entry : totals.entrySet()) {
+            logReportLine(entry.getKey().property(), entry.getValue(), errors.get(entry.getKey()).sum(), seconds);
+        }
+        logReportLine("all", all, allErrors, seconds);
+    }
+
+    private static void logReportLine(String operation, Histogram histogram, long errors, double seconds) {
+        LOGGER.info(String.format("  %-28s %9d %7d %9.1f %9.3f %9.3f %9.3f %9.3f %9.3f",
+            operation,
+            histogram.getTotalCount(),
+            errors,
+            histogram.getTotalCount() / seconds,
+            histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+            histogram.getMaxValue() / NANOS_PER_MILLI));
+    }
+
+    private static HistogramLogWriter openHistogramLog(String path) {
+        if (!StringUtils.hasText(path)) {
+            return null;
+        }
+        File file = new File(path);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try {
+            HistogramLogWriter writer = new HistogramLogWriter(file);
+            long now = System.currentTimeMillis();
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(now);
+            writer.setBaseTime(now);
+            writer.outputLegend();
+            LOGGER.info("Load: writing interval histograms to " + file.getAbsolutePath());
+            return writer;
+        } catch (FileNotFoundException e) {
+            throw new IllegalStateException("Could not open the load histogram log " + file, e);
+        }
+    }
+
+    private static LoadOperation[] weighted(Map<LoadOperation, Integer> mix) {
+        List<LoadOperation> table = new ArrayList<>();
+        for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table.add(entry.getKey());
+            }
+        }
+        return table.toArray(new LoadOperation[0]);
+    }
+
+    private void sleepUntil(long deadline) {
+        long remaining;
+        while (!stopped && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)));
+        }
+    }
+
+    private void joinWorkers() {
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+    }
+
+    private static String lastName(int index) {
+        return "Last" + index;
+    }
+
+    private static String personName(long index) {
+        return "Load Person " + index;
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(LoadGeneratorServiceImpl.class);
+}
@@ -0,0 +1,65 @@
+package org.springframework.data.examples.boot.process;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The operations the load generator mixes, named in {@code app.load.mix} by their property
+ * name, e.g. {@code customer-find-by-id:30,person-save:5}.
+ */
+public enum LoadOperation {
+
+    /** {@code CustomerService.findById} of a seeded customer. */
+    CUSTOMER_FIND_BY_ID,
+
+    /** {@code CustomerService.findByLastName}, each last name matches 1% of the seeded customers. */
+    CUSTOMER_FIND_BY_LAST_NAME,
+
+    /** {@code CustomerService.save} of a new customer. */
+    CUSTOMER_SAVE,
+
+    /** {@code PersonService.findByName} of a seeded person, served by the read-through cache. */
+    PERSON_FIND_BY_NAME,
+
+    /** {@code PersonService.findById} of a seeded person, served by the read-through cache. */
+    PERSON_FIND_BY_ID,
+
+    /** {@code PersonService.save} of a new person. */
+    PERSON_SAVE;
+
+    public String property() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    public static LoadOperation fromProperty(String value) {
+        return LoadOperation.valueOf(value.trim().replace('-', '_').toUpperCase());
+    }
+
+    /**
+     * Parses {@code operation:weight} pairs separated by commas; operations that are not listed
+     * are not run.
+     */
+    public static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            if (entry.trim().isEmpty()) {
+                continue;
+            }
+            String[] pair = entry.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("app.load.mix entry is not operation:weight: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("app.load.mix weight is negative: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(fromProperty(pair[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("app.load.mix has no operation with a positive weight: " + mix);
+        }
+        return weights;
+    }
+}
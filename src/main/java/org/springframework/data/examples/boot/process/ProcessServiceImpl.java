@@ -3,27 +3,67 @@ package org.springframework.data.examples.boot.process;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.dualwrite.DualWriteResult;
+import org.springframework.data.examples.boot.dualwrite.DualWriteService;
 import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.jpa.domain.CustomerTeamMember;
+import org.springframework.data.examples.boot.jpa.service.CustomerFetchPlan;
 import org.springframework.data.examples.boot.jpa.service.CustomerService;
+import org.springframework.data.examples.boot.jpa.service.ReactiveCustomerService;
 import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.data.examples.boot.neo4j.domain.PersonName;
 import org.springframework.data.examples.boot.neo4j.service.PersonService;
+import org.springframework.data.examples.boot.neo4j.service.ReactivePersonService;
+import org.springframework.data.examples.boot.projection.GraphProjector;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class ProcessServiceImpl implements ProcessService {
 
     private static final Log LOGGER = LogFactory.getLog(ProcessServiceImpl.class);
 
+    private static final int PAGE_SIZE = 2;
+
     private final PersonService personService;
 
     private final CustomerService customerService;
 
+    private final DualWriteService dualWriteService;
+
+    private final GraphProjector graphProjector;
+
+    private final ReactiveCustomerService reactiveCustomerService;
+
+    private final ReactivePersonService reactivePersonService;
+
+    private final MyApplicationProperties myApplicationProperties;
+
     @Autowired
-    public ProcessServiceImpl(PersonService personService, CustomerService customerService) {
+    public ProcessServiceImpl(
+        PersonService personService,
+        CustomerService customerService,
+        DualWriteService dualWriteService,
+        GraphProjector graphProjector,
+        ReactiveCustomerService reactiveCustomerService,
+        ReactivePersonService reactivePersonService,
+        MyApplicationProperties myApplicationProperties
+    ) {
         this.personService = personService;
         this.customerService = customerService;
+        this.dualWriteService = dualWriteService;
+        this.graphProjector = graphProjector;
+        this.reactiveCustomerService = reactiveCustomerService;
+        this.reactivePersonService = reactivePersonService;
+        this.myApplicationProperties = myApplicationProperties;
     }
 
     @Override
@@ -36,103 +76,165 @@ public class ProcessServiceImpl implements ProcessService {
         customerService.deleteAll();
         LOGGER.info("-----------------------------------------");
 
-        LOGGER.info("save a couple of customers (JPA):");
-        LOGGER.info("-----------------------------------------");
-        Customer c1 = customerService.save(new Customer("Jack", "Bauer"));
-        Customer c2 = customerService.save(new Customer("Chloe", "O'Brian"));
-        Customer c3 = customerService.save(new Customer("Kim", "Bauer"));
-        Customer c4 = customerService.save(new Customer("David", "Palmer"));
-        Customer c5 = customerService.save(new Customer("Michelle", "Dessler"));
-
-        c1.worksWith(c2);
-        c1.worksWith(c3);
-        c1.worksWith(c4);
-        c1.worksWith(c5);
-
-        c1 = customerService.save(c1);
-
-        LOGGER.info("c1 :"+c1.toString());
-        LOGGER.info("c2 :"+c2.toString());
-        LOGGER.info("c3 :"+c3.toString());
-        LOGGER.info("c4 :"+c4.toString());
-        LOGGER.info("c5 :"+c5.toString());
-        LOGGER.info("-----------------------------------------");
+        Customer c1 = new Customer("Jack", "Bauer");
+        Customer c2 = new Customer("Chloe", "O'Brian");
+        Customer c3 = new Customer("Kim", "Bauer");
+        Customer c4 = new Customer("David", "Palmer");
+        Customer c5 = new Customer("Michelle", "Dessler");
 
-        LOGGER.info("also save them as people (Neo4J):");
-        LOGGER.info("-----------------------------------------");
         Person p1 = new Person("Jack Bauer");
         Person p2 = new Person("Chloe O'Brian");
         Person p3 = new Person("Kim Bauer");
         Person p4 = new Person("David Palmer");
         Person p5 = new Person("Michelle Dessler");
 
-        p1 = personService.save(p1);
-        p2 = personService.save(p2);
-        p3 = personService.save(p3);
-        p4 = personService.save(p4);
-        p5 = personService.save(p5);
-
-        p1.worksWith(p2);
-        p1.worksWith(p3);
-        p1.worksWith(p4);
-        p1.worksWith(p5);
-
-        p1 = personService.save(p1);
+        if (myApplicationProperties.getProjectionEnabled()) {
+            LOGGER.info("save a couple of customers (JPA), people are projected from the outbox (Neo4J):");
+            LOGGER.info("-----------------------------------------");
+            customerService.saveAll(Arrays.asList(c1, c2, c3, c4, c5).iterator());
+
+            c1.worksWith(c2);
+            c1.worksWith(c3);
+            c1.worksWith(c4);
+            c1.worksWith(c5);
+
+            c1 = customerService.save(c1);
+
+            LOGGER.info("projected outbox events: " + graphProjector.drain());
+            p1 = personService.findByName(p1.getName(), PersonService.DEPTH_TEAM_MATES);
+            p2 = personService.findByName(p2.getName(), PersonService.DEPTH_TEAM_MATES);
+            p3 = personService.findByName(p3.getName(), PersonService.DEPTH_TEAM_MATES);
+            p4 = personService.findByName(p4.getName(), PersonService.DEPTH_TEAM_MATES);
+            p5 = personService.findByName(p5.getName(), PersonService.DEPTH_TEAM_MATES);
+        } else {
+            LOGGER.info("save a couple of customers (JPA) and people (Neo4J) in parallel:");
+            LOGGER.info("-----------------------------------------");
+            dualWriteService.saveAll(Arrays.asList(c1, c2, c3, c4, c5), Arrays.asList(p1, p2, p3, p4, p5));
+
+            c1.worksWith(c2);
+            c1.worksWith(c3);
+            c1.worksWith(c4);
+            c1.worksWith(c5);
+
+            p1.worksWith(p2);
+            p1.worksWith(p3);
+            p1.worksWith(p4);
+            p1.worksWith(p5);
+
+            DualWriteResult<Customer, Person> jackBauerWrite = dualWriteService.save(c1, p1);
+            c1 = jackBauerWrite.getJpaResult();
+            p1 = jackBauerWrite.getNeo4jResult();
+        }
 
-        LOGGER.info("p1 :"+p1.toString());
-        LOGGER.info("p2 :"+p2.toString());
-        LOGGER.info("p3 :"+p3.toString());
-        LOGGER.info("p4 :"+p4.toString());
-        LOGGER.info("p5 :"+p5.toString());
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("c1 :" + c1);
+            LOGGER.info("c2 :" + c2);
+            LOGGER.info("c3 :" + c3);
+            LOGGER.info("c4 :" + c4);
+            LOGGER.info("c5 :" + c5);
+            LOGGER.info("-----------------------------------------");
+            LOGGER.info("p1 :" + p1);
+            LOGGER.info("p2 :" + p2);
+            LOGGER.info("p3 :" + p3);
+            LOGGER.info("p4 :" + p4);
+            LOGGER.info("p5 :" + p5);
+        }
         LOGGER.info("-----------------------------------------");
 
 
         // fetch all customers
         LOGGER.info("Customers found with findAll(): ");
         LOGGER.info("-----------------------------------------");
-        Iterable<Customer> customers = customerService.findAll();
+        Iterable<Customer> customers = customerService.findAll(CustomerFetchPlan.WITH_TEAM);
         for (Customer customer : customers) {
-            LOGGER.info(customer.toString());
+            LOGGER.info(customer);
         }
         LOGGER.info("");
 
         // fetch all people
         LOGGER.info("People found with findAll(): ");
         LOGGER.info("-----------------------------------------");
-        Iterable<Person> people = personService.findAll();
+        Iterable<Person> people = personService.findAll(PersonService.DEPTH_TEAM_MATES);
 
         for (Person person : people) {
-            LOGGER.info(person.toString());
+            LOGGER.info(person);
+        }
+        LOGGER.info("names only: " + personService.findAllNames().stream().map(PersonName::getName).collect(Collectors.toList()));
+        LOGGER.info("");
+
+        // page through all customers and people by id
+        LOGGER.info("Customers and People found with keyset pagination: ");
+        LOGGER.info("-----------------------------------------");
+        List<Customer> customerPage = customerService.findAllAfterId(0L, PAGE_SIZE);
+        while (!customerPage.isEmpty()) {
+            LOGGER.info("customer page: " + customerPage.size() + " rows up to id " + customerPage.get(customerPage.size() - 1).getId());
+            customerPage = customerService.findAllAfterId(customerPage.get(customerPage.size() - 1).getId(), PAGE_SIZE);
+        }
+        List<Person> personPage = personService.findAllAfterId(-1L, PAGE_SIZE);
+        while (!personPage.isEmpty()) {
+            LOGGER.info("person page: " + personPage.size() + " nodes up to id " + personPage.get(personPage.size() - 1).getId());
+            personPage = personService.findAllAfterId(personPage.get(personPage.size() - 1).getId(), PAGE_SIZE);
         }
+        LOGGER.info("customer slice hasNext: " + customerService.findSlice(PageRequest.of(0, PAGE_SIZE)).hasNext());
+        LOGGER.info("person slice hasNext: " + personService.findSlice(PageRequest.of(0, PAGE_SIZE)).hasNext());
+        LOGGER.info("customers streamed: " + customerService.forEach(c -> { }));
         LOGGER.info("");
 
         // fetch an individual customer by ID
-        Optional<Customer> customer = customerService.findById(c1.getId());
+        Optional<Customer> customer = customerService.findById(c1.getId(), CustomerFetchPlan.WITH_TEAM);
         LOGGER.info("Customer found with findOne("+c1.getId()+": ");
         LOGGER.info("-----------------------------------------");
-        LOGGER.info(customer.toString());
+        LOGGER.info(customer);
         LOGGER.info("");
 
         // fetch an individual person by ID
-        Optional<Person> person = personService.findById(p1.getId());
+        Optional<Person> person = personService.findById(p1.getId(), PersonService.DEPTH_TEAM_MATES);
         LOGGER.info("Person found with findOne("+p1.getId()+"): ");
         LOGGER.info("-----------------------------------------");
-        LOGGER.info(person.toString());
+        LOGGER.info(person);
         LOGGER.info("");
 
         // fetch customers by last name
         LOGGER.info("Customer found with findByLastName('Bauer'):");
         LOGGER.info("-----------------------------------------");
-        for (Customer bauer : customerService.findByLastName("Bauer")) {
-            LOGGER.info(bauer.toString());
+        for (Customer bauer : customerService.findByLastName("Bauer", CustomerFetchPlan.WITH_TEAM)) {
+            LOGGER.info(bauer);
         }
         LOGGER.info("");
 
         // fetch person by their name
         LOGGER.info("Person found with findByName('Jack Bauer'):");
         LOGGER.info("--------------------------------------------");
-        Person jackBauer = personService.findByName("Jack Bauer");
-        LOGGER.info(jackBauer.toString());
+        Person jackBauer = personService.findByName("Jack Bauer", PersonService.DEPTH_TEAM_MATES);
+        LOGGER.info(jackBauer);
+        LOGGER.info("");
+
+        // walk the team graph
+        LOGGER.info("Team traversals from 'Kim Bauer':");
+        LOGGER.info("--------------------------------------------");
+        LOGGER.info("within 2 hops: " + personService.findTeamWithinHops("Kim Bauer", 2));
+        LOGGER.info("shortest path to 'David Palmer': " + personService.findShortestPath("Kim Bauer", "David Palmer"));
+        LOGGER.info("common teammates with 'David Palmer': " + personService.findCommonTeamMates("Kim Bauer", "David Palmer"));
+        LOGGER.info("");
+
+        LOGGER.info("Customer team tree of 'Jack Bauer' with a recursive query:");
+        LOGGER.info("--------------------------------------------");
+        for (CustomerTeamMember member : customerService.findTeamTree(c1.getId(), 2)) {
+            LOGGER.info(member.getDepth() + ": " + member.getFirstName() + " " + member.getLastName()
+                + " (teammate of " + member.getTeamMateOf() + ")");
+        }
+        LOGGER.info("");
+
+        LOGGER.info("Customers and Person named 'Bauer' looked up concurrently:");
+        LOGGER.info("--------------------------------------------");
+        Tuple2<List<Customer>, Person> bauers = Mono.zip(
+            reactiveCustomerService.findByLastName("Bauer").collectList(),
+            reactivePersonService.findByName("Jack Bauer")
+        ).block();
+        LOGGER.info("customers: " + bauers.getT1());
+        LOGGER.info("person: " + bauers.getT2());
+        LOGGER.info("all customers streamed: " + reactiveCustomerService.findAll().count().block());
+        LOGGER.info("all people streamed: " + reactivePersonService.findAll().count().block());
         LOGGER.info("");
 
         LOGGER.info("We are Done Here :)");
@@ -0,0 +1,21 @@
+package org.springframework.data.examples.boot.projection;
+
+/**
+ * Drains the JPA outbox into Neo4j Person nodes and TEAM_MATE relationships.
+ */
+public interface GraphProjector {
+
+    /**
+     * Projects at most one batch of outbox events.
+     *
+     * @return number of events projected
+     */
+    int projectBatch();
+
+    /**
+     * Projects batches until the outbox is empty.
+     *
+     * @return number of events projected
+     */
+    long drain();
+}
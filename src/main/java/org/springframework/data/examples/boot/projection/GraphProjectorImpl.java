@@ -0,0 +1,194 @@
+package org.springframework.data.examples.boot.projection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hibernate.Hibernate;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.examples.boot.jpa.domain.GraphOutboxEvent;
+import org.springframework.data.examples.boot.jpa.repository.GraphOutboxEventRepository;
+import org.springframework.data.examples.boot.neo4j.service.PersonService;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the outbox every {@code app.projection.poll.interval} ms and writes each batch of
+ * {@code app.projection.batch.size} events with a few UNWIND/MERGE statements. The writes are
+ * idempotent, so a batch that is projected but not yet deleted from the outbox can be replayed.
+ */
+@Service
+public class GraphProjectorImpl implements GraphProjector {
+
+    private static final String CYPHER_MERGE_PERSONS =
+        "UNWIND {rows} AS row MERGE (p:Person {customerId: row.customerId}) SET p.name = row.name RETURN id(p) AS id";
+
+    private static final String CYPHER_DELETE_STALE_TEAM_MATES =
+        "UNWIND {rows} AS row MATCH (p:Person {customerId: row.customerId})-[r:TEAM_MATE]->(m:Person) "
+            + "WHERE NOT m.customerId IN row.teamMateIds DELETE r";
+
+    private static final String CYPHER_MERGE_TEAM_MATES =
+        "UNWIND {rows} AS row MATCH (a:Person {customerId: row.from}) "
+            + "MERGE (b:Person {customerId: row.to}) MERGE (a)-[:TEAM_MATE]->(b)";
+
+    private final GraphOutboxEventRepository graphOutboxEventRepository;
+
+    private final PersonService personService;
+
+    private final MyApplicationProperties myApplicationProperties;
+
+    private final Session session;
+
+    private final TransactionTemplate jpaTransactionTemplate;
+
+    private final TransactionTemplate neo4jTransactionTemplate;
+
+    private final Timer batchTimer;
+
+    private final AtomicLong pendingEvents = new AtomicLong();
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public GraphProjectorImpl(
+        GraphOutboxEventRepository graphOutboxEventRepository,
+        PersonService personService,
+        MyApplicationProperties myApplicationProperties,
+        SessionFactory sessionFactory,
+        @Qualifier("jpaTransactionManager") PlatformTransactionManager jpaTransactionManager,
+        @Qualifier("neo4jTransactionManager") PlatformTransactionManager neo4jTransactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.graphOutboxEventRepository = graphOutboxEventRepository;
+        this.personService = personService;
+        this.myApplicationProperties = myApplicationProperties;
+        this.session = SharedSessionCreator.createSharedSession(sessionFactory);
+        this.jpaTransactionTemplate = new TransactionTemplate(jpaTransactionManager);
+        this.neo4jTransactionTemplate = new TransactionTemplate(neo4jTransactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = Timer.builder("projection.batch")
+            .description("Time to project one outbox batch into Neo4j")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        meterRegistry.gauge("projection.outbox.pending", pendingEvents);
+        meterRegistry.gauge("projection.lag", lagMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${app.projection.poll.interval:1000}")
+    public void poll() {
+        if (myApplicationProperties.getProjectionEnabled()) {
+            drain();
+        }
+    }
+
+    @Override
+    public synchronized long drain() {
+        long projected = 0;
+        int batch;
+        do {
+            batch = projectBatch();
+            projected += batch;
+        } while (batch == myApplicationProperties.getProjectionBatchSize());
+        updateLag();
+        return projected;
+    }
+
+    @Override
+    public synchronized int projectBatch() {
+        List<GraphOutboxEvent> events = jpaTransactionTemplate.execute(status -> {
+            List<GraphOutboxEvent> page = graphOutboxEventRepository.findByOrderByIdAsc(
+                PageRequest.of(0, myApplicationProperties.getProjectionBatchSize())
+            );
+            page.forEach(event -> Hibernate.initialize(event.getTeamMateIds()));
+            return page;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        List<Long> personIds = neo4jTransactionTemplate.execute(status -> writeBatch(events));
+        List<Long> ids = new ArrayList<>(events.size());
+        Set<String> names = new HashSet<>();
+        for (GraphOutboxEvent event : events) {
+            ids.add(event.getId());
+            names.add(event.getName());
+        }
+        personService.evict(personIds, names);
+        jpaTransactionTemplate.execute(status -> graphOutboxEventRepository.deleteByIds(ids));
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("projection.events").increment(events.size());
+        LOGGER.debug("projected " + events.size() + " outbox events into Neo4j");
+        return events.size();
+    }
+
+    /**
+     * Only the latest event of each customer in the batch is written; merging the team mates of an
+     * older one would bring back relationships the newer one removed.
+     */
+    private List<Long> writeBatch(List<GraphOutboxEvent> events) {
+        Map<Long, GraphOutboxEvent> latest = new LinkedHashMap<>();
+        for (GraphOutboxEvent event : events) {
+            latest.merge(event.getCustomerId(), event, (a, b) -> a.getId() > b.getId() ? a : b);
+        }
+        List<Map<String, Object>> persons = new ArrayList<>(latest.size());
+        List<Map<String, Object>> teamMates = new ArrayList<>();
+        for (GraphOutboxEvent event : latest.values()) {
+            List<Long> teamMateIds = event.getTeamMateIds();
+            Map<String, Object> row = new HashMap<>();
+            row.put("customerId", event.getCustomerId());
+            row.put("name", event.getName());
+            row.put("teamMateIds", new ArrayList<>(teamMateIds));
+            persons.add(row);
+            for (Long teamMateId : teamMateIds) {
+                Map<String, Object> teamMate = new HashMap<>();
+                teamMate.put("from", event.getCustomerId());
+                teamMate.put("to", teamMateId);
+                teamMates.add(teamMate);
+            }
+        }
+        List<Long> personIds = new ArrayList<>(persons.size());
+        for (Map<String, Object> result : session.query(CYPHER_MERGE_PERSONS, Collections.singletonMap("rows", persons)).queryResults()) {
+            personIds.add(((Number) result.get("id")).longValue());
+        }
+        session.query(CYPHER_DELETE_STALE_TEAM_MATES, Collections.singletonMap("rows", persons));
+        if (!teamMates.isEmpty()) {
+            session.query(CYPHER_MERGE_TEAM_MATES, Collections.singletonMap("rows", teamMates));
+        }
+        return personIds;
+    }
+
+    private void updateLag() {
+        jpaTransactionTemplate.execute(status -> {
+            pendingEvents.set(graphOutboxEventRepository.count());
+            lagMillis.set(graphOutboxEventRepository.findFirstByOrderByIdAsc()
+                .map(oldest -> Duration.between(oldest.getCreatedAt(), Instant.now()).toMillis())
+                .orElse(0L));
+            return null;
+        });
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(GraphProjectorImpl.class);
+}
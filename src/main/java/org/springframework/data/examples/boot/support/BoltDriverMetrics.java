@@ -0,0 +1,98 @@
+package org.springframework.data.examples.boot.support;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.Session;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pool meters for a Neo4j Java driver, which has no metrics API of its own in 1.x.
+ * <p>
+ * OGM opens one driver session per transaction and closes it on commit or rollback, and the
+ * session holds a pooled connection from {@code beginTransaction} until then. So the open
+ * sessions are the connections in use, and {@code beginTransaction} is timed as acquisition
+ * latency (pool wait plus the BEGIN round trip). Idle connections are not observable from
+ * outside the driver.
+ */
+public class BoltDriverMetrics implements MeterBinder {
+
+    private final int maxPoolSize;
+
+    private final AtomicInteger inUse = new AtomicInteger();
+
+    private Timer acquireTimer;
+
+    public BoltDriverMetrics(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("neo4j.bolt.connections.in.use", inUse, AtomicInteger::get)
+            .description("Open driver sessions, each holding a pooled bolt connection")
+            .register(registry);
+        Gauge.builder("neo4j.bolt.connections.max", this, m -> m.maxPoolSize)
+            .description("Configured maximum size of the bolt connection pool")
+            .register(registry);
+        acquireTimer = Timer.builder("neo4j.bolt.connections.acquire")
+            .description("Time to begin a transaction, waiting for a pooled bolt connection included")
+            .publishPercentileHistogram()
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+    }
+
+    /**
+     * Wraps the driver so the sessions it hands out are counted and timed; call after
+     * {@link #bindTo(MeterRegistry)}.
+     */
+    public Driver instrument(Driver driver) {
+        return (Driver) Proxy.newProxyInstance(
+            Driver.class.getClassLoader(),
+            new Class<?>[]{Driver.class},
+            (proxy, method, args) -> {
+                Object result = invoke(driver, method, args);
+                return result instanceof Session ? instrument((Session) result) : result;
+            }
+        );
+    }
+
+    private Session instrument(Session session) {
+        inUse.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Session) Proxy.newProxyInstance(
+            Session.class.getClassLoader(),
+            new Class<?>[]{Session.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                    inUse.decrementAndGet();
+                }
+                if ("beginTransaction".equals(method.getName())) {
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(session, method, args);
+                    } finally {
+                        acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+                return invoke(session, method, args);
+            }
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
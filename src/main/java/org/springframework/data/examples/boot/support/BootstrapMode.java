@@ -0,0 +1,23 @@
+package org.springframework.data.examples.boot.support;
+
+/**
+ * How the two persistence stacks start, {@code app.bootstrap.mode}.
+ */
+public enum BootstrapMode {
+
+    /** Everything on the main thread, one after the other. */
+    SEQUENTIAL,
+
+    /**
+     * The Hibernate EntityManagerFactory and the embedded Neo4j store are built on the
+     * {@code bootstrapExecutor} while the main thread carries on with the rest of the context.
+     */
+    PARALLEL;
+
+    public static BootstrapMode fromProperty(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return SEQUENTIAL;
+        }
+        return BootstrapMode.valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,137 @@
+package org.springframework.data.examples.boot.support;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Wall-clock start, duration and allocation of the persistence bootstrap phases, logged once
+ * the application is ready. Offsets are from JVM start, so phases that overlap in
+ * {@link BootstrapMode#PARALLEL} show up as overlapping ranges on different threads.
+ */
+public class BootstrapReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final BootstrapMode mode;
+
+    private final long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private final Queue<Phase> phases = new ConcurrentLinkedQueue<>();
+
+    public BootstrapReport(BootstrapMode mode) {
+        this.mode = mode;
+    }
+
+    public BootstrapMode getMode() {
+        return mode;
+    }
+
+    public <T> T time(String name, Supplier<T> work) {
+        long start = System.currentTimeMillis();
+        long allocated = ThreadAllocation.currentThreadAllocatedBytes();
+        try {
+            return work.get();
+        } finally {
+            record(name, start, System.currentTimeMillis(), allocated);
+        }
+    }
+
+    /**
+     * Records a phase that ran on the current thread, {@code allocatedBefore} being
+     * {@link ThreadAllocation#currentThreadAllocatedBytes()} at its start.
+     */
+    public void record(String name, long startMillis, long endMillis, long allocatedBefore) {
+        long allocated = allocatedBefore < 0 ? -1 : ThreadAllocation.currentThreadAllocatedBytes() - allocatedBefore;
+        phases.add(new Phase(name, Thread.currentThread().getName(), startMillis - jvmStart, endMillis - startMillis, allocated));
+    }
+
+    public List<Phase> getPhases() {
+        List<Phase> sorted = new ArrayList<>(phases);
+        sorted.sort(Comparator.comparingLong(Phase::getOffset));
+        return sorted;
+    }
+
+    /**
+     * An executor that records every task it runs as the phase {@code name}.
+     */
+    public AsyncTaskExecutor timed(String name, TaskExecutor executor) {
+        TaskExecutorAdapter adapter = new TaskExecutorAdapter(executor);
+        adapter.setTaskDecorator(task -> () -> {
+            long start = System.currentTimeMillis();
+            long allocated = ThreadAllocation.currentThreadAllocatedBytes();
+            try {
+                task.run();
+            } finally {
+                record(name, start, System.currentTimeMillis(), allocated);
+            }
+        });
+        return adapter;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        LOGGER.info("Bootstrap (" + mode.name().toLowerCase() + ") ready "
+            + (System.currentTimeMillis() - jvmStart) + " ms after JVM start");
+        for (Phase phase : getPhases()) {
+            LOGGER.info(String.format("  +%6d ms %6d ms %6d MB  %-28s [%s]",
+                phase.offset, phase.duration, phase.allocatedBytes >> 20, phase.name, phase.thread));
+        }
+    }
+
+    /**
+     * One recorded phase; offset and duration in milliseconds, -1 bytes if not counted.
+     */
+    public static final class Phase {
+
+        private final String name;
+
+        private final String thread;
+
+        private final long offset;
+
+        private final long duration;
+
+        private final long allocatedBytes;
+
+        private Phase(String name, String thread, long offset, long duration, long allocatedBytes) {
+            this.name = name;
+            this.thread = thread;
+            this.offset = offset;
+            this.duration = duration;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(BootstrapReport.class);
+}
@@ -0,0 +1,19 @@
+package org.springframework.data.examples.boot.support;
+
+/**
+ * Thrown when a bulk ingest fails part way; {@link #getReport()} tells how many rows were
+ * committed before the failure.
+ */
+public class BulkIngestException extends RuntimeException {
+
+    private final BulkIngestReport report;
+
+    public BulkIngestException(BulkIngestReport report, Throwable cause) {
+        super(report.toString(), cause);
+        this.report = report;
+    }
+
+    public BulkIngestReport getReport() {
+        return report;
+    }
+}
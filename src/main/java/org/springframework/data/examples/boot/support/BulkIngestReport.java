@@ -0,0 +1,84 @@
+package org.springframework.data.examples.boot.support;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a chunked bulk ingest: rows written, number of chunks and throughput.
+ * When a store commits per chunk, a failed ingest still reports the rows committed before it.
+ */
+public class BulkIngestReport {
+
+    private final String store;
+
+    private final long startNanos;
+
+    private long elapsedNanos;
+
+    private long rows;
+
+    private long chunks;
+
+    private String failure;
+
+    public BulkIngestReport(String store) {
+        this.store = store;
+        this.startNanos = System.nanoTime();
+    }
+
+    public void chunkWritten(int chunkRows) {
+        this.rows += chunkRows;
+        this.chunks++;
+    }
+
+    public BulkIngestReport finish() {
+        this.elapsedNanos = System.nanoTime() - this.startNanos;
+        return this;
+    }
+
+    /**
+     * Finishes the report for an ingest that stopped at {@code error}; {@link #getRows()} stays
+     * the number of rows written before it.
+     */
+    public BulkIngestReport failed(Throwable error) {
+        this.failure = error.getMessage();
+        return finish();
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getChunks() {
+        return chunks;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public double getRowsPerSecond() {
+        if (elapsedNanos == 0L) {
+            return 0d;
+        }
+        return rows * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkIngestReport: " + store + " rows=" + rows + " chunks=" + chunks
+            + " elapsed=" + getElapsedMillis() + "ms rows/sec=" + String.format("%.1f", getRowsPerSecond())
+            + (failure == null ? "" : " failed: " + failure);
+    }
+}
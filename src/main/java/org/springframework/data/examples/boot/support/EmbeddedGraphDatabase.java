@@ -0,0 +1,189 @@
+package org.springframework.data.examples.boot.support;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.factory.GraphDatabaseFactory;
+import org.neo4j.graphdb.factory.GraphDatabaseSettings;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * The embedded Neo4j store of the development profile, started and shut down with the context.
+ * <p>
+ * A store that was shut down writes a check point, so the next start finds a clean store and
+ * skips recovery. The embedded driver shuts the database down as well when the session factory
+ * is closed; {@link #stop()} covers a context that failed before it had one, and a second
+ * shutdown is a no-op.
+ * <p>
+ * Neo4j 3.1 has no page cache warm-up of its own. With {@code warmUp} the store and property
+ * pages of every node and relationship are read once on start, and one Cypher statement loads
+ * the Cypher compiler, which otherwise takes seconds on the first query.
+ * <p>
+ * The store is opened on the {@code startExecutor}. When that runs the task on another thread,
+ * {@link #driver()} returns a driver that waits for the store on first use, so the session
+ * factory and the rest of the context are built while the store starts.
+ */
+public class EmbeddedGraphDatabase {
+
+    private final File directory;
+
+    private final String pageCacheSize;
+
+    private final String txLogRotationSize;
+
+    private final String txLogRetention;
+
+    private final boolean warmUp;
+
+    private final AsyncTaskExecutor startExecutor;
+
+    private Future<GraphDatabaseService> opening;
+
+    public EmbeddedGraphDatabase(
+        File directory,
+        String pageCacheSize,
+        String txLogRotationSize,
+        String txLogRetention,
+        boolean warmUp,
+        AsyncTaskExecutor startExecutor
+    ) {
+        this.directory = directory;
+        this.pageCacheSize = pageCacheSize;
+        this.txLogRotationSize = txLogRotationSize;
+        this.txLogRetention = txLogRetention;
+        this.warmUp = warmUp;
+        this.startExecutor = startExecutor;
+    }
+
+    public void start() {
+        opening = startExecutor.submit(this::open);
+        if (opening.isDone()) {
+            getGraphDatabaseService();
+        }
+    }
+
+    private GraphDatabaseService open() {
+        long start = System.nanoTime();
+        GraphDatabaseService graphDb = new GraphDatabaseFactory()
+            .newEmbeddedDatabaseBuilder(directory)
+            .setConfig(GraphDatabaseSettings.pagecache_memory, pageCacheSize)
+            .setConfig(GraphDatabaseSettings.logical_log_rotation_threshold, txLogRotationSize)
+            .setConfig(GraphDatabaseSettings.keep_logical_logs, txLogRetention)
+            .newGraphDatabase();
+        LOGGER.info("Embedded Neo4j store " + directory.getAbsolutePath() + " started in "
+            + (System.nanoTime() - start) / 1_000_000 + " ms, page cache " + pageCacheSize
+            + ", JVM max heap " + Runtime.getRuntime().maxMemory() / (1024 * 1024) + "m");
+        if (warmUp) {
+            warmUp(graphDb);
+        }
+        return graphDb;
+    }
+
+    private void warmUp(GraphDatabaseService graphDb) {
+        long start = System.nanoTime();
+        long nodes = 0;
+        long relationships = 0;
+        long properties = 0;
+        try (Transaction tx = graphDb.beginTx()) {
+            for (Node node : graphDb.getAllNodes()) {
+                nodes++;
+                properties += node.getAllProperties().size();
+            }
+            for (Relationship relationship : graphDb.getAllRelationships()) {
+                relationships++;
+                properties += relationship.getAllProperties().size();
+            }
+            tx.success();
+        }
+        graphDb.execute("CALL db.indexes()").close();
+        LOGGER.info("Embedded Neo4j page cache warmed up with " + nodes + " nodes, " + relationships
+            + " relationships and " + properties + " properties in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    public void stop() {
+        if (opening == null) {
+            return;
+        }
+        GraphDatabaseService graphDb;
+        try {
+            graphDb = getGraphDatabaseService();
+        } catch (IllegalStateException e) {
+            return;
+        }
+        LOGGER.info("Embedded Neo4j store " + directory.getAbsolutePath() + " shutting down");
+        graphDb.shutdown();
+    }
+
+    /**
+     * The started store, waiting for it if it is still starting.
+     */
+    public GraphDatabaseService getGraphDatabaseService() {
+        try {
+            return opening.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the embedded Neo4j store", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not start the embedded Neo4j store in " + directory, e.getCause());
+        }
+    }
+
+    /**
+     * The OGM driver for this store. The {@link EmbeddedDriver} checks the database on
+     * construction, so while the store is still starting this returns a proxy that creates it
+     * on the first call; closing the proxy before that is left to {@link #stop()}.
+     */
+    public Driver driver() {
+        if (opening.isDone()) {
+            return new EmbeddedDriver(getGraphDatabaseService());
+        }
+        Driver[] driver = new Driver[1];
+        return (Driver) Proxy.newProxyInstance(
+            Driver.class.getClassLoader(),
+            new Class<?>[]{Driver.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "EmbeddedDriver for " + directory;
+                    default:
+                        break;
+                }
+                synchronized (driver) {
+                    if (driver[0] == null) {
+                        if ("close".equals(method.getName())) {
+                            return null;
+                        }
+                        driver[0] = new EmbeddedDriver(getGraphDatabaseService());
+                    }
+                }
+                return invoke(driver[0], method, args);
+            }
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(EmbeddedGraphDatabase.class);
+}
@@ -0,0 +1,54 @@
+package org.springframework.data.examples.boot.support;
+
+/**
+ * Shared pieces of the entity {@code toString()} methods, which are called for every logged
+ * entity: a per-thread {@link StringBuilder} that is reused instead of allocated per call, and
+ * the bound on how many teammates are rendered.
+ */
+public final class EntityFormat {
+
+    /** Teammates rendered by {@code toString()}; the rest are summarized as {@code ... n more}. */
+    public static final int MAX_TEAM_MATES = 10;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** A buffer that grew past this for one huge entity is dropped rather than kept per thread. */
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+        ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private EntityFormat() {
+    }
+
+    /**
+     * The calling thread's buffer, emptied. Only valid until the next call on the same thread,
+     * so callers append to it and turn it into a String before calling anything that formats.
+     */
+    public static StringBuilder buffer() {
+        StringBuilder buffer = BUFFER.get();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_CAPACITY);
+            BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    /**
+     * Appends the separator before the {@code index}-th teammate, or the summary of the remaining
+     * ones once {@link #MAX_TEAM_MATES} are rendered.
+     *
+     * @return false if no more teammates should be appended
+     */
+    public static boolean nextTeamMate(StringBuilder buffer, int index, int total) {
+        if (index == MAX_TEAM_MATES) {
+            buffer.append(", ... ").append(total - index).append(" more");
+            return false;
+        }
+        if (index > 0) {
+            buffer.append(", ");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package org.springframework.data.examples.boot.support;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * Times the Hibernate bootstrap of every EntityManagerFactory and, in
+ * {@link BootstrapMode#PARALLEL}, hands it to the bootstrap executor. Spring then returns a
+ * proxy right away and the first call that needs the native factory waits for it. Boot 2.0 has
+ * no customizer for this, hence the post processor.
+ */
+public class EntityManagerFactoryBootstrapPostProcessor implements BeanPostProcessor {
+
+    private static final String PHASE = "jpa entityManagerFactory";
+
+    private final ObjectProvider<BootstrapReport> bootstrapReport;
+
+    private final ObjectProvider<TaskExecutor> bootstrapExecutor;
+
+    private long sequentialStart;
+
+    private long sequentialAllocated;
+
+    public EntityManagerFactoryBootstrapPostProcessor(
+        ObjectProvider<BootstrapReport> bootstrapReport,
+        ObjectProvider<TaskExecutor> bootstrapExecutor
+    ) {
+        this.bootstrapReport = bootstrapReport;
+        this.bootstrapExecutor = bootstrapExecutor;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof AbstractEntityManagerFactoryBean) {
+            BootstrapReport report = bootstrapReport.getObject();
+            if (report.getMode() == BootstrapMode.PARALLEL) {
+                ((AbstractEntityManagerFactoryBean) bean).setBootstrapExecutor(
+                    report.timed(PHASE, bootstrapExecutor.getObject())
+                );
+            } else {
+                sequentialStart = System.currentTimeMillis();
+                sequentialAllocated = ThreadAllocation.currentThreadAllocatedBytes();
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof AbstractEntityManagerFactoryBean) {
+            BootstrapReport report = bootstrapReport.getObject();
+            if (report.getMode() == BootstrapMode.SEQUENTIAL) {
+                report.record(PHASE, sequentialStart, System.currentTimeMillis(), sequentialAllocated);
+            }
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,56 @@
+package org.springframework.data.examples.boot.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hit, miss and put counters of each Hibernate second-level cache region, tagged by {@code region}. Regions that are only created on first use report zero until then.
+ */
+public class HibernateCacheRegionMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    private final Collection<String> regionNames;
+
+    public HibernateCacheRegionMetrics(Statistics statistics, Collection<String> regionNames) {
+        this.statistics = statistics;
+        this.regionNames = regionNames;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : regionNames) {
+            counter(registry, region, "hit", SecondLevelCacheStatistics::getHitCount);
+            counter(registry, region, "miss", SecondLevelCacheStatistics::getMissCount);
+            FunctionCounter.builder("hibernate.cache.region.puts", statistics,
+                s -> value(s, region, SecondLevelCacheStatistics::getPutCount))
+                .tag("region", region)
+                .description("Entries put into the second-level cache region")
+                .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String region, String result,
+                         ToLongFunction<SecondLevelCacheStatistics> count) {
+        FunctionCounter.builder("hibernate.cache.region.requests", statistics, s -> value(s, region, count))
+            .tag("region", region)
+            .tag("result", result)
+            .description("Lookups in the second-level cache region")
+            .register(registry);
+    }
+
+    private static double value(Statistics statistics, String region,
+                                ToLongFunction<SecondLevelCacheStatistics> count) {
+        if (!statistics.isStatisticsEnabled()) {
+            return 0d;
+        }
+        SecondLevelCacheStatistics regionStatistics = statistics.getSecondLevelCacheStatistics(region);
+        return regionStatistics == null ? 0d : count.applyAsLong(regionStatistics);
+    }
+}
@@ -0,0 +1,60 @@
+package org.springframework.data.examples.boot.support;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves {@code GET /metrics} in the Prometheus text format. The application has no web server of
+ * its own, so this uses the JDK {@link HttpServer} instead of the Actuator web endpoint; the
+ * Actuator {@code prometheus} endpoint is still there over JMX.
+ */
+public class PrometheusScrapeServer {
+
+    private final PrometheusMeterRegistry registry;
+
+    private final String host;
+
+    private final int port;
+
+    private HttpServer server;
+
+    public PrometheusScrapeServer(PrometheusMeterRegistry registry, String host, int port) {
+        this.registry = registry;
+        this.host = host;
+        this.port = port;
+    }
+
+    public void start() throws IOException {
+        if (port < 0) {
+            LOGGER.info("Prometheus scrape endpoint disabled");
+            return;
+        }
+        server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", TextFormat.CONTENT_TYPE_004);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        LOGGER.info("Prometheus scrape endpoint on http://" + host + ":" + server.getAddress().getPort() + "/metrics");
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(PrometheusScrapeServer.class);
+}
@@ -0,0 +1,21 @@
+package org.springframework.data.examples.boot.support;
+
+/**
+ * How {@link ReplicaRoutingDataSource} picks among the fresh replicas,
+ * {@code app.datasource.replica.balancing}.
+ */
+public enum ReplicaBalancing {
+
+    /** Each read-only transaction takes the next replica in turn. */
+    ROUND_ROBIN,
+
+    /** The replica whose pool has the fewest connections in use. */
+    LEAST_CONNECTIONS;
+
+    public static ReplicaBalancing fromProperty(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return ROUND_ROBIN;
+        }
+        return ReplicaBalancing.valueOf(value.trim().replace('-', '_').toUpperCase());
+    }
+}
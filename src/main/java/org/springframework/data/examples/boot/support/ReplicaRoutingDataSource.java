@@ -0,0 +1,191 @@
+package org.springframework.data.examples.boot.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the statements of {@code readOnly} transactions to a read replica and everything else to
+ * the primary. The connection is only fetched at the first statement, when the transaction
+ * manager has already marked the transaction read-only; that is what the
+ * {@link LazyConnectionDataSourceProxy} base class is for.
+ * <p>
+ * With a lag query, each replica is asked for its replication lag in seconds every
+ * {@code lagCheckIntervalMillis}. A replica that lags more than {@code maxLagMillis}, or cannot be
+ * asked, is skipped until it catches up; with no fresh replica the reads go to the primary.
+ * Without a lag query every replica counts as fresh.
+ * <p>
+ * A lag within {@code maxLagMillis} is still a lag: use {@link ReplicaRoutingJpaTransactionManager}
+ * so rows read from a replica do not end up in the second-level cache.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final ReplicaBalancing balancing;
+
+    private final long maxLagMillis;
+
+    private final String lagQuery;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final ScheduledExecutorService lagChecker;
+
+    public ReplicaRoutingDataSource(
+        HikariDataSource primary,
+        List<HikariDataSource> replicas,
+        ReplicaBalancing balancing,
+        long maxLagMillis,
+        String lagQuery,
+        long lagCheckIntervalMillis
+    ) {
+        this.primary = primary;
+        this.balancing = balancing;
+        this.maxLagMillis = maxLagMillis;
+        this.lagQuery = lagQuery == null || lagQuery.trim().isEmpty() ? null : lagQuery;
+        for (HikariDataSource replica : replicas) {
+            this.replicas.add(new Replica(replica, this.lagQuery == null));
+        }
+        setTargetDataSource(new Router());
+        afterPropertiesSet();
+        if (this.lagQuery == null) {
+            lagChecker = null;
+        } else {
+            lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-lag-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            lagChecker.scheduleWithFixedDelay(this::checkLag, 0, lagCheckIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        LOGGER.info("Routing read-only transactions to " + replicas.size() + " replicas, " + balancing
+            + ", max lag " + maxLagMillis + "ms" + (this.lagQuery == null ? " (not checked)" : ""));
+    }
+
+    /**
+     * The pool the current transaction's statements go to.
+     */
+    DataSource currentDataSource() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary;
+        }
+        Replica replica = balancing == ReplicaBalancing.LEAST_CONNECTIONS ? leastConnections() : roundRobin();
+        return replica == null ? primary : replica.dataSource;
+    }
+
+    private Replica roundRobin() {
+        int start = nextReplica.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (replica.fresh) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica leastConnections() {
+        Replica least = null;
+        int leastActive = Integer.MAX_VALUE;
+        for (Replica replica : replicas) {
+            if (!replica.fresh) {
+                continue;
+            }
+            HikariPoolMXBean pool = replica.dataSource.getHikariPoolMXBean();
+            int active = pool == null ? 0 : pool.getActiveConnections();
+            if (active < leastActive) {
+                least = replica;
+                leastActive = active;
+            }
+        }
+        return least;
+    }
+
+    private void checkLag() {
+        for (Replica replica : replicas) {
+            try (
+                Connection connection = replica.dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(lagQuery)
+            ) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                replica.update(lagSeconds * 1000 <= maxLagMillis, String.format("lag %.1fs", lagSeconds));
+            } catch (SQLException | RuntimeException e) {
+                replica.update(false, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+        primary.close();
+    }
+
+    private class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return currentDataSource().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return currentDataSource().getConnection(username, password);
+        }
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+
+        private volatile boolean fresh;
+
+        private boolean checked;
+
+        private Replica(HikariDataSource dataSource, boolean fresh) {
+            this.dataSource = dataSource;
+            this.fresh = fresh;
+        }
+
+        /**
+         * Only called from the lag check thread; logs the first result and every change.
+         */
+        private void update(boolean fresh, String reason) {
+            if (fresh && (!this.fresh || !checked)) {
+                LOGGER.info("Replica " + dataSource.getPoolName() + " takes reads, " + reason);
+            } else if (!fresh && (this.fresh || !checked)) {
+                LOGGER.warn("Replica " + dataSource.getPoolName() + " is skipped, " + reason);
+            }
+            this.fresh = fresh;
+            this.checked = true;
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(ReplicaRoutingDataSource.class);
+}
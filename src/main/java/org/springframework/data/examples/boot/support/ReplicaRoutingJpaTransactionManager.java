@@ -0,0 +1,93 @@
+package org.springframework.data.examples.boot.support;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+
+/**
+ * Transaction manager for a {@link ReplicaRoutingDataSource}: read-only transactions run with
+ * the {@link CacheStoreMode#BYPASS} store mode and {@link CacheMode#GET}, so what they load from a
+ * replica never goes into the second-level or query cache.
+ * <p>
+ * A replica can lag, and Hibernate would otherwise cache what a read-only transaction loaded
+ * once the writer's soft lock is gone; read-write transactions on the primary would then read
+ * the stale row from the cache, as {@code find} asks the cache first. The price is that only
+ * read-write transactions warm the caches. Read-only transactions still use what is cached, which
+ * came from the primary and may be fresher than the replica.
+ */
+public class ReplicaRoutingJpaTransactionManager extends JpaTransactionManager {
+
+    private static final String STORE_MODE = "javax.persistence.cache.storeMode";
+
+    /**
+     * Sets the dialect after the base class has taken over the one of the EntityManagerFactory.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        setJpaDialect(new ReplicaReadJpaDialect());
+    }
+
+    private static final class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+        @Override
+        public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+            Object transactionData = super.beginTransaction(entityManager, definition);
+            if (!definition.isReadOnly()) {
+                return transactionData;
+            }
+            // find() derives the cache mode from the JPA store mode, queries use the session's
+            Session session = entityManager.unwrap(Session.class);
+            ReadOnlyTransactionData readOnly = new ReadOnlyTransactionData(
+                transactionData, entityManager, entityManager.getProperties().get(STORE_MODE), session.getCacheMode()
+            );
+            entityManager.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+            session.setCacheMode(CacheMode.GET);
+            return readOnly;
+        }
+
+        @Override
+        public void cleanupTransaction(Object transactionData) {
+            if (transactionData instanceof ReadOnlyTransactionData) {
+                ReadOnlyTransactionData readOnly = (ReadOnlyTransactionData) transactionData;
+                readOnly.entityManager.setProperty(
+                    STORE_MODE, readOnly.previousStoreMode == null ? CacheStoreMode.USE : readOnly.previousStoreMode
+                );
+                readOnly.entityManager.unwrap(Session.class).setCacheMode(readOnly.previousCacheMode);
+                super.cleanupTransaction(readOnly.transactionData);
+            } else {
+                super.cleanupTransaction(transactionData);
+            }
+        }
+    }
+
+    private static final class ReadOnlyTransactionData {
+
+        private final Object transactionData;
+
+        private final EntityManager entityManager;
+
+        private final Object previousStoreMode;
+
+        private final CacheMode previousCacheMode;
+
+        private ReadOnlyTransactionData(
+            Object transactionData,
+            EntityManager entityManager,
+            Object previousStoreMode,
+            CacheMode previousCacheMode
+        ) {
+            this.transactionData = transactionData;
+            this.entityManager = entityManager;
+            this.previousStoreMode = previousStoreMode;
+            this.previousCacheMode = previousCacheMode;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.springframework.data.examples.boot.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Times every {@code CustomerService} and {@code PersonService} call as {@code app.service.calls},
+ * tagged by {@code store}, {@code method} and {@code outcome}, with a percentile histogram so the
+ * p99 per operation can be computed from a scrape. The rows a call returned go to
+ * {@code app.service.rows}: the size of a collection or page, 0 or 1 for an optional or single
+ * entity, the rows of a {@link BulkIngestReport} and the count returned by {@code forEach}. Streams
+ * are consumed after the call returns and are only timed.
+ * <p>
+ * Ordered first so the timer includes the transaction and cache advice of the service proxy.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> rows = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* org.springframework.data.examples.boot.jpa.service.CustomerService.*(..))")
+    public Object timeCustomerService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("jpa", joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.examples.boot.neo4j.service.PersonService.*(..))"
+        + " && !execution(int org.springframework.data.examples.boot.neo4j.service.PersonService.getDefaultDepth())")
+    public Object timePersonService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("neo4j", joinPoint);
+    }
+
+    private Object time(String store, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            timer(store, method, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        timer(store, method, "success").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        long count = ((MethodSignature) joinPoint.getSignature()).getReturnType() == void.class ? -1 : rowCount(result);
+        if (count >= 0) {
+            rows(store, method).record(count);
+        }
+        return result;
+    }
+
+    private Timer timer(String store, String method, String outcome) {
+        return timers.computeIfAbsent(store + '.' + method + '.' + outcome, key ->
+            Timer.builder("app.service.calls")
+                .description("Service method latency")
+                .tag("store", store)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)
+        );
+    }
+
+    private DistributionSummary rows(String store, String method) {
+        return rows.computeIfAbsent(store + '.' + method, key ->
+            DistributionSummary.builder("app.service.rows")
+                .description("Rows returned by a service method")
+                .baseUnit("rows")
+                .tag("store", store)
+                .tag("method", method)
+                .register(registry)
+        );
+    }
+
+    /**
+     * Rows in a service result, or -1 if there is nothing to count.
+     */
+    private static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof BulkIngestReport) {
+            return ((BulkIngestReport) result).getRows();
+        }
+        if (result instanceof Number) {
+            return ((Number) result).longValue();
+        }
+        if (result instanceof Stream || result instanceof Iterable) {
+            return -1;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,290 @@
+package org.springframework.data.examples.boot.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.examples.boot.config.helper.MyApplicationProperties;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Wall-clock time and allocation of every bean created while the context starts.
+ * <p>
+ * Added to the context as an initializer, so its post processor is in place before the other
+ * post processors are created and sees the beans they pull in early, like the Neo4j driver and
+ * session factory. A bean's total time runs from instantiation to the end of its
+ * initialization and includes the dependencies created on the way; self time and self
+ * allocation leave those out. Repository beans are the factory beans that build the repository
+ * proxies. Work done on other threads, like the parallel Hibernate bootstrap, comes from the
+ * {@link BootstrapReport} phases.
+ * <p>
+ * When the application is ready the beans with the most self time are logged
+ * ({@code app.startup.profile.top}) and the full profile is written as JSON to
+ * {@code app.startup.profile.file}, to be diffed between releases or checked by a perf test.
+ */
+public class StartupProfiler implements ApplicationContextInitializer<ConfigurableApplicationContext>,
+    ApplicationListener<ApplicationReadyEvent>, Ordered {
+
+    /** Prefix of the names Spring generates for inner beans. */
+    private static final String INNER_BEAN_PREFIX = "(inner bean)";
+
+    private final long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private final Queue<BeanCreation> beans = new ConcurrentLinkedQueue<>();
+
+    private final ThreadLocal<Deque<BeanCreation>> creating = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        context.getBeanFactory().addBeanPostProcessor(new Recorder(context.getBeanFactory()));
+        context.addApplicationListener(this);
+    }
+
+    /**
+     * First, so the ready time is taken before other listeners, like the demo, run.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long ready = System.currentTimeMillis() - jvmStart;
+        MyApplicationProperties properties = event.getApplicationContext().getBean("myApplicationProperties", MyApplicationProperties.class);
+        List<BeanCreation> sorted = new ArrayList<>(beans);
+        sorted.sort(Comparator.comparingLong(BeanCreation::getSelfMillis).reversed());
+        int top = Math.min(properties.getStartupProfileTop(), sorted.size());
+        if (top > 0) {
+            LOGGER.info("Startup profile: " + sorted.size() + " beans, ready " + ready
+                + " ms after JVM start; top " + top + " by self time (self ms, total ms, self MB allocated):");
+            for (BeanCreation bean : sorted.subList(0, top)) {
+                LOGGER.info(String.format("  %6d %6d %6d  %-13s %s",
+                    bean.selfMillis, bean.totalMillis, bean.selfAllocatedBytes >> 20, bean.category,
+                    bean.name.startsWith(INNER_BEAN_PREFIX) ? bean.name + " " + bean.type : bean.name));
+            }
+        }
+        if (StringUtils.hasText(properties.getStartupProfileFile())) {
+            write(new File(properties.getStartupProfileFile()), ready, sorted, event);
+        }
+    }
+
+    private void write(File file, long ready, List<BeanCreation> sorted, ApplicationReadyEvent event) {
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("readyMillis", ready);
+        Map<String, Map<String, Long>> categories = new LinkedHashMap<>();
+        for (BeanCreation bean : sorted) {
+            Map<String, Long> totals = categories.computeIfAbsent(bean.category, key -> new LinkedHashMap<>());
+            totals.merge("beans", 1L, Long::sum);
+            totals.merge("selfMillis", bean.selfMillis, Long::sum);
+            totals.merge("selfAllocatedBytes", bean.selfAllocatedBytes, Long::sum);
+        }
+        profile.put("categories", categories);
+        for (BootstrapReport bootstrapReport : event.getApplicationContext().getBeansOfType(BootstrapReport.class).values()) {
+            profile.put("bootstrapMode", bootstrapReport.getMode().name().toLowerCase());
+            profile.put("phases", bootstrapReport.getPhases());
+        }
+        profile.put("beans", sorted);
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, profile);
+            LOGGER.info("Startup profile written to " + file.getAbsolutePath());
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the startup profile to " + file.getAbsolutePath(), e);
+        }
+    }
+
+    private static String category(Object bean) {
+        if (bean instanceof RepositoryFactoryBeanSupport) {
+            return "repository";
+        }
+        if (bean instanceof AbstractEntityManagerFactoryBean || bean instanceof EntityManagerFactory) {
+            return "jpa";
+        }
+        if (bean instanceof org.neo4j.ogm.session.SessionFactory
+            || bean instanceof org.neo4j.ogm.driver.Driver
+            || bean instanceof org.neo4j.ogm.config.Configuration
+            || bean instanceof org.neo4j.driver.v1.Driver
+            || bean instanceof EmbeddedGraphDatabase) {
+            return "neo4j";
+        }
+        if (AnnotationUtils.findAnnotation(ClassUtils.getUserClass(bean), Configuration.class) != null) {
+            return "configuration";
+        }
+        return "bean";
+    }
+
+    /**
+     * Opens a {@link BeanCreation} when a bean is about to be instantiated and closes it after its
+     * initialization. Spring also asks before instantiating a factory bean only to find out its
+     * type, and a creation can fail; entries whose bean is no longer in creation are dropped
+     * before a new one is opened and before a completed one is added to its enclosing bean.
+     * Inner beans are never registered as in creation and only go when their enclosing bean
+     * completes.
+     */
+    private final class Recorder implements InstantiationAwareBeanPostProcessor {
+
+        private final ConfigurableListableBeanFactory beanFactory;
+
+        private Recorder(ConfigurableListableBeanFactory beanFactory) {
+            this.beanFactory = beanFactory;
+        }
+
+        @Override
+        public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+            Deque<BeanCreation> stack = creating.get();
+            prune(stack);
+            stack.push(new BeanCreation(beanName, Thread.currentThread().getName(),
+                System.currentTimeMillis(), ThreadAllocation.currentThreadAllocatedBytes()));
+            return null;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            Deque<BeanCreation> stack = creating.get();
+            for (BeanCreation open : stack) {
+                if (open.name.equals(beanName)) {
+                    BeanCreation creation;
+                    do {
+                        creation = stack.pop();
+                    } while (creation != open);
+                    creation.complete(bean, jvmStart);
+                    prune(stack);
+                    BeanCreation parent = stack.peek();
+                    if (parent != null) {
+                        parent.childMillis += creation.totalMillis;
+                        parent.childAllocatedBytes += creation.totalAllocatedBytes;
+                    }
+                    beans.add(creation);
+                    break;
+                }
+            }
+            return bean;
+        }
+
+        private void prune(Deque<BeanCreation> stack) {
+            while (!stack.isEmpty()
+                && !stack.peek().name.startsWith(INNER_BEAN_PREFIX)
+                && !beanFactory.isCurrentlyInCreation(stack.peek().name)) {
+                stack.pop();
+            }
+        }
+    }
+
+    /**
+     * One bean creation; times in milliseconds, offsets from JVM start.
+     */
+    public static final class BeanCreation {
+
+        private final String name;
+
+        private final String thread;
+
+        private final long start;
+
+        private final long allocatedBefore;
+
+        private String type;
+
+        private String category;
+
+        private long offsetMillis;
+
+        private long totalMillis;
+
+        private long selfMillis;
+
+        private long totalAllocatedBytes;
+
+        private long selfAllocatedBytes;
+
+        private long childMillis;
+
+        private long childAllocatedBytes;
+
+        private BeanCreation(String name, String thread, long start, long allocatedBefore) {
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.allocatedBefore = allocatedBefore;
+        }
+
+        private void complete(Object bean, long jvmStart) {
+            type = ClassUtils.getUserClass(bean).getName();
+            category = category(bean);
+            offsetMillis = start - jvmStart;
+            totalMillis = System.currentTimeMillis() - start;
+            selfMillis = totalMillis - childMillis;
+            if (allocatedBefore >= 0) {
+                totalAllocatedBytes = ThreadAllocation.currentThreadAllocatedBytes() - allocatedBefore;
+                selfAllocatedBytes = totalAllocatedBytes - childAllocatedBytes;
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public long getOffsetMillis() {
+            return offsetMillis;
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+
+        public long getSelfMillis() {
+            return selfMillis;
+        }
+
+        public long getTotalAllocatedBytes() {
+            return totalAllocatedBytes;
+        }
+
+        public long getSelfAllocatedBytes() {
+            return selfAllocatedBytes;
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(StartupProfiler.class);
+}
@@ -0,0 +1,36 @@
+-- Schema of the JPA entities as Hibernate validates it.
+-- globally_quoted_identifiers is on, so all names are quoted lower case.
+
+create sequence "hibernate_sequence" start with 1 increment by 1;
+
+create table "customer" (
+    "id" bigint not null,
+    "first_name" varchar(255),
+    "last_name" varchar(255),
+    "team_mate_id" bigint,
+    primary key ("id")
+);
+
+alter table "customer"
+    add constraint "fk_customer_team_mate" foreign key ("team_mate_id") references "customer" ("id");
+
+create table "dual_write_compensation" (
+    "id" bigint not null,
+    "created_at" timestamp,
+    "customer_id" bigint,
+    "entity_name" varchar(255),
+    "error_message" varchar(2000),
+    "failed_store" varchar(255),
+    "person_id" bigint,
+    "status" varchar(255),
+    primary key ("id")
+);
+
+create table "graph_outbox_event" (
+    "id" bigint not null,
+    "created_at" timestamp,
+    "customer_id" bigint,
+    "name" varchar(255),
+    "team_mate_ids" varchar(4000),
+    primary key ("id")
+);
@@ -0,0 +1,8 @@
+-- CustomerRepository.findByLastName and findWithTeamByLastName filter on last_name.
+create index "ix_customer_last_name" on "customer" ("last_name");
+
+-- Loading Customer.teamMate and cascading deletes look up rows by their owner.
+create index "ix_customer_team_mate_id" on "customer" ("team_mate_id");
+
+-- DualWriteCompensationRepository.findByStatus.
+create index "ix_dual_write_compensation_status" on "dual_write_compensation" ("status");
@@ -0,0 +1,6 @@
+-- Customer ids come from their own sequence with the pooled-lo optimizer: one nextval per
+-- Customer.ID_ALLOCATION_SIZE inserts. The increment must equal that constant.
+create sequence "customer_seq" start with 1 increment by 50;
+
+-- Continue after the ids hibernate_sequence handed out so far.
+alter sequence "customer_seq" restart with (select coalesce(max("id"), 0) + 1 from "customer");
@@ -0,0 +1,21 @@
+-- Team mate ids of an outbox event move from a comma separated varchar(4000) to their own
+-- table, so the size of a team is not bounded by the column length.
+create table "graph_outbox_team_mate" (
+    "event_id" bigint not null,
+    "team_mate_id" bigint not null,
+    foreign key ("event_id") references "graph_outbox_event" ("id") on delete cascade
+);
+
+create index "graph_outbox_team_mate_event_id" on "graph_outbox_team_mate" ("event_id");
+
+-- Split the pending events that still carry the comma separated ids.
+insert into "graph_outbox_team_mate" ("event_id", "team_mate_id")
+with recursive "ids" ("event_id", "head", "rest") as (
+    select "id", null, "team_mate_ids" || ',' from "graph_outbox_event" where "team_mate_ids" <> ''
+    union all
+    select "event_id", substring("rest", 1, locate(',', "rest") - 1), substring("rest", locate(',', "rest") + 1)
+    from "ids" where "rest" <> ''
+)
+select "event_id", cast("head" as bigint) from "ids" where "head" is not null;
+
+alter table "graph_outbox_event" drop column "team_mate_ids";
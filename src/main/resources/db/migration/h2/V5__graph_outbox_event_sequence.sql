@@ -0,0 +1,6 @@
+-- Outbox event ids come from their own sequence with the pooled-lo optimizer: one nextval per
+-- GraphOutboxEvent.ID_ALLOCATION_SIZE inserts. The increment must equal that constant.
+create sequence "graph_outbox_event_seq" start with 1 increment by 50;
+
+-- Continue after the ids hibernate_sequence handed out so far.
+alter sequence "graph_outbox_event_seq" restart with (select coalesce(max("id"), 0) + 1 from "graph_outbox_event");
@@ -0,0 +1,6 @@
+-- Customer ids come from their own sequence with the pooled-lo optimizer: one nextval per
+-- Customer.ID_ALLOCATION_SIZE inserts. The increment must equal that constant.
+create sequence "customer_seq" start 1 increment 50;
+
+-- Continue after the ids hibernate_sequence handed out so far.
+select setval('"customer_seq"', (select coalesce(max("id"), 0) + 1 from "customer"), false);
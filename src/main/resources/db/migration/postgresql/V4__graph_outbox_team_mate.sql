@@ -0,0 +1,16 @@
+-- Team mate ids of an outbox event move from a comma separated varchar(4000) to their own
+-- table, so the size of a team is not bounded by the column length.
+create table "graph_outbox_team_mate" (
+    "event_id" bigint not null,
+    "team_mate_id" bigint not null,
+    foreign key ("event_id") references "graph_outbox_event" ("id") on delete cascade
+);
+
+create index "graph_outbox_team_mate_event_id" on "graph_outbox_team_mate" ("event_id");
+
+-- Split the pending events that still carry the comma separated ids.
+insert into "graph_outbox_team_mate" ("event_id", "team_mate_id")
+select "id", cast(unnest(string_to_array("team_mate_ids", ',')) as bigint)
+from "graph_outbox_event" where "team_mate_ids" <> '';
+
+alter table "graph_outbox_event" drop column "team_mate_ids";
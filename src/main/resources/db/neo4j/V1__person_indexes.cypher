@@ -0,0 +1,7 @@
+// Indexes and constraints declared on the node entities, as written by
+// spring.data.neo4j.indexes.auto.mode=dump. Production validates them at startup and does not
+// create them: run this once against a new database, e.g.
+//   cypher-shell -a bolt://neo4j-host:7687 -u neo4j < V1__person_indexes.cypher
+// and dump again to add a file for every new @Index.
+CREATE INDEX ON :`Person`(`name`);
+CREATE CONSTRAINT ON (n:`Person`) ASSERT n.`customerId` IS UNIQUE;
@@ -0,0 +1,99 @@
+package org.springframework.data.examples.boot.jpa.service;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.data.examples.boot.support.BulkIngestException;
+import org.springframework.data.examples.boot.support.BulkIngestReport;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link CustomerService#saveAll(Iterator)} commits every chunk of {@code app.bulk.chunk.size}
+ * on its own, so a failure keeps the chunks before it and reports them.
+ */
+@RunWith(SpringRunner.class)
+@ActiveProfiles("development")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bulkingest;DB_CLOSE_DELAY=-1",
+    "spring.data.neo4j.graphDbFileName=target/test-var/bulkIngestGraphDb",
+    "spring.data.neo4j.indexes.auto.dump.dir=target/test-var/",
+    "spring.jpa.show-sql=false",
+    "app.demo.enabled=false",
+    "app.projection.enabled=false",
+    "app.startup.profile.file=",
+    "app.metrics.prometheus.port=-1",
+    "app.bulk.chunk.size=2"
+})
+public class CustomerBulkIngestTests {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Before
+    public void setUp() {
+        customerService.deleteAll();
+    }
+
+    @Test
+    public void saveAllCommitsEveryChunk() {
+        BulkIngestReport report = customerService.saveAll(customers(5, -1));
+        assertEquals(5, report.getRows());
+        assertEquals(3, report.getChunks());
+        assertEquals(5, count());
+    }
+
+    @Test
+    public void failureKeepsTheChunksCommittedBeforeIt() {
+        try {
+            customerService.saveAll(customers(5, 3));
+            fail("the feed fails at its fourth customer");
+        } catch (BulkIngestException e) {
+            assertTrue(e.getReport().isFailed());
+            assertEquals(2, e.getReport().getRows());
+            assertEquals(1, e.getReport().getChunks());
+        }
+        assertEquals(2, count());
+    }
+
+    private long count() {
+        return StreamSupport.stream(customerService.findAll().spliterator(), false).count();
+    }
+
+    /**
+     * {@code size} new customers, failing when the customer at {@code failAt} is requested.
+     */
+    private static Iterator<Customer> customers(int size, int failAt) {
+        return new Iterator<Customer>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Customer next() {
+                if (next == size) {
+                    throw new NoSuchElementException();
+                }
+                if (next == failAt) {
+                    throw new IllegalStateException("feed failed at " + next);
+                }
+                return new Customer("Bulk " + next++, "Ingest");
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package org.springframework.data.examples.boot.jpa.service;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The number of JDBC statements a read prepares must not grow with the rows it returns: each
+ * {@link CustomerFetchPlan} is one query, also for {@link CustomerFetchPlan#WITH_TEAM} whose
+ * teammates are read after the transaction. Caches are evicted before every cold measurement, so
+ * the read goes to the database; a warm measurement repeats a read with what the first one cached.
+ */
+@RunWith(SpringRunner.class)
+@ActiveProfiles("development")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:fetchplan;DB_CLOSE_DELAY=-1",
+    "spring.data.neo4j.graphDbFileName=target/test-var/graphDb",
+    "spring.data.neo4j.indexes.auto.dump.dir=target/test-var/",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "app.demo.enabled=false",
+    "app.projection.enabled=false",
+    "app.startup.profile.file="
+})
+public class CustomerFetchPlanTests {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SessionFactory sessionFactory;
+
+    @Before
+    public void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        customerService.deleteAll();
+    }
+
+    @Test
+    public void findAllPreparesTheSameStatementsForFewAndManyRows() {
+        for (CustomerFetchPlan fetchPlan : CustomerFetchPlan.values()) {
+            customerService.deleteAll();
+            seed("Few", 2, 3);
+            long few = statements(() -> read(customerService.findAll(fetchPlan), fetchPlan));
+            seed("Many", 20, 3);
+            long many = statements(() -> read(customerService.findAll(fetchPlan), fetchPlan));
+            assertEquals(fetchPlan.name(), few, many);
+        }
+    }
+
+    @Test
+    public void findByLastNamePreparesTheSameStatementsForFewAndManyRows() {
+        seed("Few", 2, 3);
+        seed("Many", 20, 3);
+        for (CustomerFetchPlan fetchPlan : CustomerFetchPlan.values()) {
+            long few = statements(() -> read(customerService.findByLastName("Few", fetchPlan), fetchPlan));
+            long many = statements(() -> read(customerService.findByLastName("Many", fetchPlan), fetchPlan));
+            assertEquals(fetchPlan.name(), few, many);
+        }
+    }
+
+    @Test
+    public void findByIdPreparesTheSameStatementsForSmallAndLargeTeams() {
+        Long small = seed("Small", 1, 1);
+        Long large = seed("Large", 1, 20);
+        for (CustomerFetchPlan fetchPlan : CustomerFetchPlan.values()) {
+            long few = statements(() -> read(customerService.findById(small, fetchPlan).get(), fetchPlan));
+            long many = statements(() -> read(customerService.findById(large, fetchPlan).get(), fetchPlan));
+            assertEquals(fetchPlan.name(), few, many);
+        }
+    }
+
+    @Test
+    public void warmCacheReadsStillFetchTheTeam() {
+        Long id = seed("Warm", 3, 3);
+        // the summaries come from the query and entity caches, the team plans query once
+        assertEquals(0, warmStatements(() -> read(customerService.findByLastName("Warm", CustomerFetchPlan.SUMMARY), CustomerFetchPlan.SUMMARY)));
+        assertEquals(1, warmStatements(() -> read(customerService.findByLastName("Warm", CustomerFetchPlan.WITH_TEAM), CustomerFetchPlan.WITH_TEAM)));
+        assertEquals(0, warmStatements(() -> read(customerService.findById(id, CustomerFetchPlan.SUMMARY).get(), CustomerFetchPlan.SUMMARY)));
+        assertEquals(1, warmStatements(() -> read(customerService.findById(id, CustomerFetchPlan.WITH_TEAM).get(), CustomerFetchPlan.WITH_TEAM)));
+        assertEquals(1, warmStatements(() -> read(customerService.findAll(CustomerFetchPlan.WITH_TEAM), CustomerFetchPlan.WITH_TEAM)));
+    }
+
+    /**
+     * Saves {@code customers} customers with the last name {@code lastName}, each with
+     * {@code teamSize} teammates of another last name, and returns the id of the last one.
+     */
+    private Long seed(String lastName, int customers, int teamSize) {
+        Long id = null;
+        for (int i = 0; i < customers; i++) {
+            Customer customer = new Customer(lastName + " " + i, lastName);
+            for (int j = 0; j < teamSize; j++) {
+                customer.worksWith(new Customer(lastName + " " + i + " mate " + j, "Mate"));
+            }
+            id = customerService.save(customer).getId();
+        }
+        return id;
+    }
+
+    private long statements(Supplier<Integer> read) {
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        int rows = read.get();
+        long prepared = statistics.getPrepareStatementCount();
+        assertTrue("no rows read", rows > 0);
+        assertTrue("nothing read from the database", prepared > 0);
+        return prepared;
+    }
+
+    /**
+     * Runs {@code read} on empty caches and measures it a second time, without evicting what the
+     * first run cached.
+     */
+    private long warmStatements(Supplier<Integer> read) {
+        sessionFactory.getCache().evictAllRegions();
+        read.get();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        assertTrue("no rows read", read.get() > 0);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Counts the customers and, for {@link CustomerFetchPlan#WITH_TEAM}, their teammates, which
+     * must have been fetched inside the transaction.
+     */
+    private static int read(Iterable<Customer> customers, CustomerFetchPlan fetchPlan) {
+        int rows = 0;
+        for (Customer customer : customers) {
+            rows += read(customer, fetchPlan);
+        }
+        return rows;
+    }
+
+    private static int read(Customer customer, CustomerFetchPlan fetchPlan) {
+        if (fetchPlan != CustomerFetchPlan.WITH_TEAM) {
+            return 1;
+        }
+        assertTrue(customer.getName() + "'s teammates not loaded", Hibernate.isInitialized(customer.getTeamMate()));
+        return 1 + customer.getTeamMate().size();
+    }
+}
@@ -0,0 +1,64 @@
+package org.springframework.data.examples.boot.neo4j.service;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.examples.boot.neo4j.domain.Person;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * The person caches hand out shared instances; renaming one and saving it must not leave the
+ * old name pointing at it.
+ */
+@RunWith(SpringRunner.class)
+@ActiveProfiles("development")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:personcache;DB_CLOSE_DELAY=-1",
+    "spring.data.neo4j.graphDbFileName=target/test-var/personCacheGraphDb",
+    "spring.data.neo4j.indexes.auto.dump.dir=target/test-var/",
+    "spring.jpa.show-sql=false",
+    "app.demo.enabled=false",
+    "app.projection.enabled=false",
+    "app.startup.profile.file=",
+    "app.metrics.prometheus.port=-1"
+})
+public class PersonServiceCacheTests {
+
+    @Autowired
+    private PersonService personService;
+
+    @Before
+    public void setUp() {
+        personService.deleteAll();
+    }
+
+    @Test
+    public void renamingACachedPersonDropsTheOldName() {
+        Long id = personService.save(new Person("Before Rename")).getId();
+        Person cached = personService.findById(id).get();
+        assertEquals(cached, personService.findByName("Before Rename"));
+
+        cached.setName("After Rename");
+        personService.save(cached);
+
+        assertNull(personService.findByName("Before Rename"));
+        assertEquals(id, personService.findByName("After Rename").getId());
+        assertEquals("After Rename", personService.findById(id).get().getName());
+    }
+
+    @Test
+    public void renamingWithoutSavingDoesNotChangeTheLookup() {
+        Long id = personService.save(new Person("Unsaved Rename")).getId();
+        personService.findByName("Unsaved Rename").setName("Only In Memory");
+
+        Person reloaded = personService.findByName("Unsaved Rename");
+        assertEquals(id, reloaded.getId());
+        assertEquals("Unsaved Rename", reloaded.getName());
+    }
+}
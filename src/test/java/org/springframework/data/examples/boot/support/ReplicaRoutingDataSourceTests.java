@@ -0,0 +1,139 @@
+package org.springframework.data.examples.boot.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.data.examples.boot.jpa.domain.Customer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A primary and a replica as two separate H2 databases, the replica holding an older version of
+ * the customer, as a lagging replica would: read-only transactions must see the replica, the
+ * others the primary, also after a read-only transaction loaded the older version.
+ */
+public class ReplicaRoutingDataSourceTests {
+
+    private HikariDataSource primary;
+
+    private HikariDataSource replica;
+
+    private ReplicaRoutingDataSource dataSource;
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+
+    private TransactionTemplate readWrite;
+
+    private TransactionTemplate readOnly;
+
+    private Long customerId;
+
+    @Before
+    public void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        dataSource = new ReplicaRoutingDataSource(
+            primary, Collections.singletonList(replica), ReplicaBalancing.ROUND_ROBIN, 1000, null, 1000
+        );
+        entityManagerFactoryBean = entityManagerFactory(dataSource);
+        JpaTransactionManager transactionManager = new ReplicaRoutingJpaTransactionManager();
+        transactionManager.setEntityManagerFactory(entityManagerFactoryBean.getObject());
+        transactionManager.afterPropertiesSet();
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        customerId = readWrite.execute(status -> {
+            Customer customer = new Customer("Current", "Replicated");
+            entityManager().persist(customer);
+            return customer.getId();
+        });
+        new JdbcTemplate(replica).update(
+            "insert into \"customer\" (\"id\", \"first_name\", \"last_name\") values (?, 'Stale', 'Replicated')",
+            customerId
+        );
+        entityManagerFactoryBean.getObject().getCache().evictAll();
+    }
+
+    @After
+    public void tearDown() {
+        entityManagerFactoryBean.destroy();
+        dataSource.close();
+    }
+
+    @Test
+    public void readOnlyTransactionsReadTheReplica() {
+        assertEquals("Stale", readOnly.execute(status -> firstName()));
+    }
+
+    @Test
+    public void readWriteTransactionsReadThePrimary() {
+        assertEquals("Current", readWrite.execute(status -> firstName()));
+    }
+
+    @Test
+    public void replicaReadsDoNotReachTheSecondLevelCache() {
+        assertEquals("Stale", readOnly.execute(status -> firstName()));
+        assertEquals("Current", readWrite.execute(status -> firstName()));
+    }
+
+    @Test
+    public void readOnlyTransactionsStillUseTheSecondLevelCache() {
+        assertEquals("Current", readWrite.execute(status -> firstName()));
+        assertEquals("Current", readOnly.execute(status -> firstName()));
+    }
+
+    private String firstName() {
+        return entityManager().find(Customer.class, customerId).getFirstName();
+    }
+
+    private javax.persistence.EntityManager entityManager() {
+        return EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactoryBean.getObject());
+    }
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource h2 = new HikariDataSource();
+        h2.setJdbcUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        h2.setUsername("sa");
+        h2.setPoolName(name);
+        Flyway flyway = new Flyway();
+        flyway.setDataSource(h2);
+        flyway.setLocations("classpath:db/migration/h2");
+        flyway.migrate();
+        return h2;
+    }
+
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory(ReplicaRoutingDataSource dataSource) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("hibernate.globally_quoted_identifiers", "true");
+        properties.put("hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName());
+        properties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+        properties.put("hibernate.cache.use_second_level_cache", "true");
+        properties.put("hibernate.cache.use_query_cache", "true");
+        properties.put("hibernate.cache.region.factory_class", "org.hibernate.cache.jcache.JCacheRegionFactory");
+        properties.put("hibernate.javax.cache.provider", "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(Customer.class.getPackage().getName());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        return factoryBean;
+    }
+}